@@ -0,0 +1,35 @@
+package com.coupon.api.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the in-process benchmarks (everything but the database ones) and writes a JSON result file
+ * that can be diffed against a stored baseline.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.coupon.api.benchmarks.BenchmarkRunner [result-file] [include-regex]
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+    private static final String DEFAULT_INCLUDE =
+        "CouponValidationBenchmark|CouponUseCaseBenchmark|CouponDtoBenchmark|CouponResponseSerializationBenchmark";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(args.length > 1 ? args[1] : DEFAULT_INCLUDE)
+            .resultFormat(ResultFormatType.JSON)
+            .result(args.length > 0 ? args[0] : DEFAULT_RESULT_FILE)
+            .build();
+
+        new Runner(options).run();
+    }
+}
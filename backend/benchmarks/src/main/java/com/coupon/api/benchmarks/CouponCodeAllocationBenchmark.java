@@ -0,0 +1,58 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.domain.Coupon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes allocated per code sanitizing call, read from {@code gc.alloc.rate.norm}. A clean code should
+ * allocate nothing; a formatted one only the resulting string (its char array and the String itself).
+ * {@code regexBaseline} is the previous {@code replaceAll} implementation, kept for comparison.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.coupon.api.benchmarks.CouponCodeAllocationBenchmark
+ * java -jar target/benchmarks.jar CouponCodeAllocationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponCodeAllocationBenchmark {
+
+    @Param({"ABC123", "AB-C1.23"})
+    public String code;
+
+    @Benchmark
+    public String sanitize() {
+        return Coupon.sanitizeAndValidateCode(code);
+    }
+
+    @Benchmark
+    public String regexBaseline() {
+        return code.replaceAll("[^a-zA-Z0-9]", "");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CouponCodeAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
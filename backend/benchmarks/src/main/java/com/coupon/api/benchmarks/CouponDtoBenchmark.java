@@ -0,0 +1,83 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping and the JSON reads and writes done at the controller boundary.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CouponDtoBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponDtoBenchmark {
+
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+    private CouponView coupon;
+    private CouponResponseDTO response;
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        responseWriter = objectMapper.writerFor(CouponResponseDTO.class);
+        requestReader = objectMapper.readerFor(CouponRequestDTO.class);
+
+        InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+        coupon = CouponView.from(couponRepository.save(Coupon.create(
+            "ABC123", "Benchmark coupon", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), true)));
+        getCouponByIdUseCase = new GetCouponByIdUseCase(couponRepository);
+        response = getCouponByIdUseCase.toResponse(coupon);
+
+        requestJson = ("{\"code\":\"ABC123\",\"description\":\"Benchmark coupon\",\"discountValue\":10.0," +
+            "\"expirationDate\":\"2030-01-01T10:00:00.000Z\",\"published\":true}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CouponResponseDTO mapToResponse() {
+        return getCouponByIdUseCase.toResponse(coupon);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public CouponRequestDTO deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+}
@@ -0,0 +1,199 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.infrastructure.concurrency.VirtualThreads;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load test: {@code clients} concurrent clients each issue {@code GET /coupon/{id}} (or another read path) back to
+ * back for {@code seconds} against a running API, then throughput and latency percentiles are printed.
+ * Run it once against the default platform-thread pool and once against the {@code virtual-threads}
+ * profile (on Java 21+) with the same database and data:
+ *
+ * <pre>
+ * java -jar target/coupon-api-1.0.0-exec.jar
+ * java -jar target/coupon-api-1.0.0-exec.jar --spring.profiles.active=virtual-threads
+ *
+ * java -Dhttp.maxConnections=10000 -cp target/benchmarks.jar com.coupon.api.benchmarks.CouponLoadTest \
+ *     http://localhost:8080 10000 60 1000
+ * </pre>
+ *
+ * An optional fifth argument switches the read path, e.g. {@code /reactive/coupon} to drive the
+ * reactive endpoints with the same workload.
+ *
+ * Clients run on virtual threads when the load generator itself is on Java 21+, otherwise on
+ * platform threads with a small stack.
+ */
+public final class CouponLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final DateTimeFormatter EXPIRATION_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    private static final int LATENCY_BUCKETS = 100_000;
+    private static final long BUCKET_MICROS = 100;
+
+    private CouponLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int coupons = args.length > 3 ? Integer.parseInt(args[3]) : 1_000;
+        String readPath = args.length > 4 ? args[4] : "/coupon";
+
+        List<String> ids = createCoupons(baseUrl, coupons);
+        System.out.printf("Created %d coupons, starting %d clients on %s for %d s%n",
+            ids.size(), clients, readPath, seconds);
+
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(clients);
+
+        ExecutorService executor = clientExecutor(clients);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        long requestStart = System.nanoTime();
+                        if (get(baseUrl + readPath + "/" + id)) {
+                            completed.increment();
+                            record(latencies, System.nanoTime() - requestStart);
+                        } else {
+                            failed.increment();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+
+        System.out.printf("%n%d clients, %.1f s: %,d requests, %,d errors, %,.0f requests/s%n",
+            clients, elapsedSeconds, completed.sum(), failed.sum(), completed.sum() / elapsedSeconds);
+        System.out.printf("latency p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms%n",
+            percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999));
+    }
+
+    private static ExecutorService clientExecutor(int clients) {
+        if (VirtualThreads.isSupported()) {
+            return VirtualThreads.newThreadPerTaskExecutor("load-client-");
+        }
+        return Executors.newFixedThreadPool(clients, runnable -> {
+            Thread thread = new Thread(null, runnable, "load-client", 256 * 1024);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static List<String> createCoupons(String baseUrl, int count) throws IOException {
+        List<String> ids = new ArrayList<>(count);
+        String expiration = LocalDateTime.now().plusDays(30).format(EXPIRATION_FORMAT);
+        for (int i = 0; i < count; i++) {
+            String code = String.format("LT%04d", i);
+            String body = "{\"code\":\"" + code + "\",\"description\":\"Load test\",\"discountValue\":10.0,"
+                + "\"expirationDate\":\"" + expiration + "\",\"published\":true}";
+            HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + "/coupon").openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            if (connection.getResponseCode() == 201) {
+                Matcher matcher = ID.matcher(read(connection.getInputStream()));
+                if (matcher.find()) {
+                    ids.add(matcher.group(1));
+                }
+            } else {
+                drain(connection.getErrorStream());
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No coupons could be created; clear LT* codes or check " + baseUrl);
+        }
+        return ids;
+    }
+
+    private static boolean get(String url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(30_000);
+            connection.setReadTimeout(60_000);
+            int status = connection.getResponseCode();
+            drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+            return status == 200;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        StringBuilder text = new StringBuilder();
+        byte[] buffer = new byte[4096];
+        try (InputStream input = in) {
+            for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                text.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            }
+        }
+        return text.toString();
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        if (in == null) {
+            return;
+        }
+        byte[] buffer = new byte[4096];
+        try (InputStream input = in) {
+            while (input.read(buffer) >= 0) {
+                // keeps the connection reusable
+            }
+        }
+    }
+
+    private static void record(AtomicLongArray latencies, long nanos) {
+        int bucket = (int) Math.min(LATENCY_BUCKETS - 1, TimeUnit.NANOSECONDS.toMicros(nanos) / BUCKET_MICROS);
+        latencies.incrementAndGet(bucket);
+    }
+
+    private static double percentile(AtomicLongArray latencies, double quantile) {
+        long total = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            total += latencies.get(i);
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            seen += latencies.get(i);
+            if (seen >= rank && seen > 0) {
+                return (i + 1) * BUCKET_MICROS / 1_000.0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.CouponApiApplication;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Get-by-id against the database, loading a managed {@link Coupon} and mapping it to the response
+ * versus the read-only {@code CouponView} projection. Run with {@code -prof gc} to compare the bytes
+ * allocated per lookup alongside the latency.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CouponReadPathBenchmark -prof gc
+ * java -jar target/benchmarks.jar CouponReadPathBenchmark -prof gc \
+ *     -p url=jdbc:postgresql://localhost:5432/coupons -p user=coupon -p password=coupon -p extraProfile=postgres
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CouponReadPathBenchmark {
+
+    private static final int INSERT_BATCH = 1_000;
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({""})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({""})
+    public String extraProfile;
+
+    private ConfigurableApplicationContext context;
+    private CouponRepositoryAdapter repository;
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        String jdbcUrl = url.isEmpty() ? "jdbc:h2:mem:read-path;DB_CLOSE_DELAY=-1" : url;
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CouponApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + jdbcUrl,
+                "spring.datasource.username=" + user,
+                "spring.datasource.password=" + password,
+                "coupon.expiration.enabled=false",
+                "coupon.code-filter.enabled=false",
+                "coupon.cache.enabled=false",
+                "logging.level.root=WARN");
+        if (!extraProfile.isEmpty()) {
+            builder.profiles(extraProfile);
+        }
+        context = builder.run();
+        repository = context.getBean(CouponRepositoryAdapter.class);
+        getCouponByIdUseCase = new GetCouponByIdUseCase(repository);
+
+        long nextCode = ThreadLocalRandom.current().nextLong(1L << 34);
+        LocalDateTime expirationDate = LocalDateTime.now().plusYears(1);
+        ids = new UUID[size];
+        for (int start = 0; start < size; start += INSERT_BATCH) {
+            int count = Math.min(INSERT_BATCH, size - start);
+            List<Coupon> batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String code = CouponCode.fromLong(nextCode++).toString();
+                batch.add(Coupon.create(code, "Benchmark coupon", new BigDecimal("10.0"), expirationDate, true));
+            }
+            List<Coupon> saved = repository.saveAll(batch);
+            for (int i = 0; i < saved.size(); i++) {
+                ids[start + i] = saved.get(i).getId();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CouponResponseDTO managedEntity() {
+        return getCouponByIdUseCase.toResponse(CouponView.from(repository.findByIdAndNotDeleted(nextId()).get()));
+    }
+
+    @Benchmark
+    public CouponResponseDTO projection() {
+        return getCouponByIdUseCase.execute(nextId());
+    }
+
+    private UUID nextId() {
+        return ids[ThreadLocalRandom.current().nextInt(size)];
+    }
+}
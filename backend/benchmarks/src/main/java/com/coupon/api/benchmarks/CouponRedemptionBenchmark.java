@@ -0,0 +1,134 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.CouponApiApplication;
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redemptions per second through {@link RedeemCouponUseCase}, with concurrent checkouts each redeeming
+ * a different coupon: the lookup by code, the conditional UPDATE and the outbox append all run against
+ * the database. Every iteration loads {@code size} fresh coupons, which must outlast the iteration;
+ * raise {@code size} if the run reports the pool exhausted. {@code -t} sets the number of checkouts.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CouponRedemptionBenchmark
+ * java -jar target/benchmarks.jar CouponRedemptionBenchmark -t 64 \
+ *     -p url=jdbc:postgresql://localhost:5432/coupons -p user=coupon -p password=coupon -p extraProfile=postgres
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CouponRedemptionBenchmark {
+
+    private static final int INSERT_BATCH = 1_000;
+
+    @Param({"200000"})
+    public int size;
+
+    @Param({""})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({""})
+    public String extraProfile;
+
+    private ConfigurableApplicationContext context;
+    private CouponRepositoryAdapter repository;
+    private RedeemCouponUseCase redeemCouponUseCase;
+    private String[] codes;
+    private final AtomicInteger next = new AtomicInteger();
+    private long nextCode;
+
+    @Setup
+    public void setUp() {
+        String jdbcUrl = url.isEmpty() ? "jdbc:h2:mem:coupon-redemption;DB_CLOSE_DELAY=-1" : url;
+        context = new SpringApplicationBuilder(CouponApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles(extraProfile.isEmpty() ? new String[0] : new String[]{extraProfile})
+            .properties(
+                "spring.datasource.url=" + jdbcUrl,
+                "spring.datasource.username=" + user,
+                "spring.datasource.password=" + password,
+                "coupon.expiration.enabled=false",
+                "logging.level.root=WARN")
+            .run();
+        repository = context.getBean(CouponRepositoryAdapter.class);
+        redeemCouponUseCase = context.getBean(RedeemCouponUseCase.class);
+        // random start so reruns against the same database do not collide on codes
+        nextCode = ThreadLocalRandom.current().nextLong(1L << 34);
+    }
+
+    @Setup(Level.Iteration)
+    public void loadCoupons() {
+        codes = new String[size];
+        for (int start = 0; start < size; start += INSERT_BATCH) {
+            List<Coupon> saved = repository.saveAll(newCoupons(Math.min(INSERT_BATCH, size - start)));
+            for (int i = 0; i < saved.size(); i++) {
+                codes[start + i] = saved.get(i).getCode();
+            }
+        }
+        next.set(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CouponResponseDTO redeem() {
+        int index = next.getAndIncrement();
+        if (index >= size) {
+            throw new IllegalStateException("Coupon pool exhausted, raise -p size above " + size);
+        }
+        return redeemCouponUseCase.execute(codes[index]);
+    }
+
+    private List<Coupon> newCoupons(int count) {
+        LocalDateTime expirationDate = LocalDateTime.now().plusYears(1);
+        List<Coupon> coupons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String code = CouponCode.fromLong(nextCode++).toString();
+            coupons.add(Coupon.create(code, "Benchmark coupon", new BigDecimal("10.0"), expirationDate, true));
+        }
+        return coupons;
+    }
+}
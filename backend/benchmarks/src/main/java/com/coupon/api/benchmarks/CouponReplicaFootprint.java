@@ -0,0 +1,81 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.infrastructure.replica.CompactCouponStore;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Retained heap of the in-memory replica for {@code count} coupons (one million by default), next to
+ * the entity maps a plain cache would need for the same two lookups. Run with a fixed heap so the
+ * measurement is not disturbed by resizing:
+ *
+ * <pre>
+ * java -Xms4g -Xmx4g -cp target/benchmarks.jar com.coupon.api.benchmarks.CouponReplicaFootprint [count]
+ * </pre>
+ */
+public final class CouponReplicaFootprint {
+
+    private static final int DEFAULT_COUNT = 1_000_000;
+
+    private CouponReplicaFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+
+        long before = usedHeap();
+        Map<UUID, Coupon> byId = new HashMap<>();
+        Map<String, Coupon> byCode = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Coupon coupon = coupon(i);
+            byId.put(coupon.getId(), coupon);
+            byCode.put(coupon.getCode(), coupon);
+        }
+        long entityMaps = usedHeap() - before;
+        report("HashMap<UUID, Coupon> + HashMap<String, Coupon>", count, entityMaps);
+        byId = null;
+        byCode = null;
+
+        before = usedHeap();
+        CompactCouponStore store = new CompactCouponStore(count);
+        for (int i = 0; i < count; i++) {
+            store.put(coupon(i));
+        }
+        long compact = usedHeap() - before;
+        report("CompactCouponStore", count, compact);
+        report("CompactCouponStore (estimated)", count, store.estimatedBytes());
+        System.out.printf("%nCompact store uses %.1f%% of the entity maps%n", 100.0 * compact / entityMaps);
+    }
+
+    private static Coupon coupon(int index) {
+        LocalDateTime now = LocalDateTime.now();
+        return Coupon.restore(UUID.randomUUID(), code(index), "Coupon " + index, new BigDecimal("10.00"),
+            now.plusDays(30), CouponStatus.ACTIVE, true, false, now, now);
+    }
+
+    private static String code(int index) {
+        String digits = Integer.toString(index, 36).toUpperCase();
+        return "ZZZZZZ".substring(digits.length()) + digits;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void report(String structure, int count, long bytes) {
+        System.out.printf("%-50s %,d coupons: %,.1f MB (%.1f MB per million, %d bytes per coupon)%n",
+            structure, count, bytes / (1024.0 * 1024.0), bytes / (1024.0 * 1024.0) * 1_000_000 / count, bytes / count);
+    }
+}
@@ -0,0 +1,70 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.infrastructure.replica.CompactCouponStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of the in-memory replica with {@code size} coupons loaded, read by several threads
+ * at once so the optimistic read path is what gets measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CouponReplicaLookupBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private CompactCouponStore store;
+    private UUID[] ids;
+    private String[] codes;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        store = new CompactCouponStore(size);
+        ids = new UUID[size];
+        codes = new String[size];
+        for (int i = 0; i < size; i++) {
+            String digits = Integer.toString(i, 36).toUpperCase();
+            codes[i] = "ZZZZZZ".substring(digits.length()) + digits;
+            ids[i] = UUID.randomUUID();
+            store.put(Coupon.restore(ids[i], codes[i], "Coupon " + i, new BigDecimal("10.00"),
+                now.plusDays(30), CouponStatus.ACTIVE, true, false, now, now));
+        }
+    }
+
+    @Benchmark
+    public Optional<Coupon> findById() {
+        return store.findById(ids[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public Optional<Coupon> findByCode() {
+        return store.findByCode(codes[ThreadLocalRandom.current().nextInt(size)]);
+    }
+}
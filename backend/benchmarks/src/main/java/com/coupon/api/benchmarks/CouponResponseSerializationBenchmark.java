@@ -0,0 +1,71 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.infrastructure.web.CouponJsonResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path of {@code GET /coupon/{id}}: DTO built and serialized per request versus bytes cached per coupon version.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CouponResponseSerializationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+    private CouponJsonResponseCache couponJsonResponseCache;
+    private UUID couponId;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        InMemoryCouponRepository couponRepository = new InMemoryCouponRepository();
+        Coupon coupon = couponRepository.save(Coupon.create(
+            "ABC123", "Benchmark coupon", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), true));
+        couponId = coupon.getId();
+
+        getCouponByIdUseCase = new GetCouponByIdUseCase(couponRepository);
+        couponJsonResponseCache = new CouponJsonResponseCache(objectMapper, true, 1024 * 1024);
+    }
+
+    @Benchmark
+    public byte[] dtoPath() throws Exception {
+        return objectMapper.writeValueAsBytes(getCouponByIdUseCase.execute(couponId));
+    }
+
+    @Benchmark
+    public byte[] cachedBytesPath() {
+        CouponView coupon = getCouponByIdUseCase.findView(couponId);
+        return couponJsonResponseCache.get(coupon, getCouponByIdUseCase::toResponse);
+    }
+}
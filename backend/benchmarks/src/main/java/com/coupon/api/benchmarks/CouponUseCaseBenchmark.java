@@ -0,0 +1,104 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.application.usecase.CreateCouponUseCase;
+import com.coupon.api.application.usecase.DeleteCouponUseCase;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Create, get and delete use cases against {@link InMemoryCouponRepository}, isolating the application and
+ * domain layers from persistence. {@code delete} has to save a fresh coupon first, so it includes one save;
+ * {@code create} and {@code delete} clear the repositories after each call to keep their size constant. Outbox
+ * events go to {@link InMemoryCouponEventRepository} with no transaction around them.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CouponUseCaseBenchmark -rf json -rff target/use-cases.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponUseCaseBenchmark {
+
+    private static final UnitOfWork DIRECT = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    private InMemoryCouponRepository couponRepository;
+    private InMemoryCouponEventRepository couponEventRepository;
+    private CreateCouponUseCase createCouponUseCase;
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+    private DeleteCouponUseCase deleteCouponUseCase;
+    private CouponRequestDTO request;
+    private LocalDateTime expirationDate;
+    private UUID existingId;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        couponRepository = new InMemoryCouponRepository();
+        couponEventRepository = new InMemoryCouponEventRepository();
+        createCouponUseCase = new CreateCouponUseCase(couponRepository, couponEventRepository, DIRECT);
+        getCouponByIdUseCase = new GetCouponByIdUseCase(couponRepository);
+        deleteCouponUseCase = new DeleteCouponUseCase(couponRepository, couponEventRepository, DIRECT);
+
+        expirationDate = LocalDateTime.now().plusYears(1);
+        request = CouponRequestDTO.builder()
+            .code("ABC-123")
+            .description("Benchmark coupon")
+            .discountValue(new BigDecimal("10.0"))
+            .expirationDate(expirationDate)
+            .published(true)
+            .build();
+        existingId = couponRepository.save(Coupon.create(
+            "GET123", "Benchmark coupon", new BigDecimal("10.0"), expirationDate, true)).getId();
+    }
+
+    @Benchmark
+    public CouponResponseDTO create() {
+        CouponResponseDTO response = createCouponUseCase.execute(request);
+        couponRepository.clear();
+        couponEventRepository.clear();
+        return response;
+    }
+
+    @Benchmark
+    public CouponResponseDTO getById() {
+        return getCouponByIdUseCase.execute(existingId);
+    }
+
+    @Benchmark
+    public UUID delete() {
+        UUID id = couponRepository.save(Coupon.create(
+            "DEL123", "Benchmark coupon", new BigDecimal("10.0"), expirationDate, true)).getId();
+        deleteCouponUseCase.execute(id);
+        couponRepository.clear();
+        couponEventRepository.clear();
+        return id;
+    }
+}
@@ -0,0 +1,67 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.exception.InvalidCouponException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain validation done by {@link Coupon#create} on every write and by code sanitizing on every lookup.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CouponValidationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponValidationBenchmark {
+
+    private BigDecimal discountValue;
+    private LocalDateTime expirationDate;
+
+    @Setup
+    public void setUp() {
+        discountValue = new BigDecimal("10.0");
+        expirationDate = LocalDateTime.now().plusYears(1);
+    }
+
+    @Benchmark
+    public Coupon create() {
+        return Coupon.create("ABC123", "Benchmark coupon", discountValue, expirationDate, true);
+    }
+
+    @Benchmark
+    public String sanitizeCleanCode() {
+        return Coupon.sanitizeAndValidateCode("ABC123");
+    }
+
+    @Benchmark
+    public String sanitizeFormattedCode() {
+        return Coupon.sanitizeAndValidateCode("AB-C1.23");
+    }
+
+    @Benchmark
+    public String rejectInvalidCode() {
+        try {
+            return Coupon.sanitizeAndValidateCode("AB-1");
+        } catch (InvalidCouponException ex) {
+            return ex.getMessage();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.CouponApiApplication;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts and lookups through the persistence adapter with the default JPA settings and with the
+ * {@code high-throughput} profile (larger JDBC batches, bigger plan cache, second-level and query
+ * caches). Each trial boots the application without the web server against its own database; lookups
+ * pick among {@code size} coupons loaded at startup. There are no redeems or deletes, whose bulk
+ * updates evict the cache regions, so this is the read-mostly case the profile is meant for.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar HibernateProfileBenchmark
+ * java -jar target/benchmarks.jar HibernateProfileBenchmark \
+ *     -p url=jdbc:postgresql://localhost:5432/coupons -p user=coupon -p password=coupon -p extraProfile=postgres
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class HibernateProfileBenchmark {
+
+    private static final int INSERT_BATCH = 1_000;
+
+    @Param({"default", "high-throughput"})
+    public String profile;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({""})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    @Param({""})
+    public String extraProfile;
+
+    private ConfigurableApplicationContext context;
+    private CouponRepositoryAdapter repository;
+    private UUID[] ids;
+    private String[] codes;
+    private long nextCode;
+
+    @Setup
+    public void setUp() {
+        List<String> profiles = new ArrayList<>();
+        if (!extraProfile.isEmpty()) {
+            profiles.add(extraProfile);
+        }
+        if (!"default".equals(profile)) {
+            profiles.add(profile);
+        }
+        String jdbcUrl = url.isEmpty() ? "jdbc:h2:mem:hibernate-profile-" + profile + ";DB_CLOSE_DELAY=-1" : url;
+        context = new SpringApplicationBuilder(CouponApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles(profiles.toArray(new String[0]))
+            .properties(
+                "spring.datasource.url=" + jdbcUrl,
+                "spring.datasource.username=" + user,
+                "spring.datasource.password=" + password,
+                "coupon.expiration.enabled=false",
+                "coupon.code-filter.enabled=false",
+                "coupon.cache.enabled=false",
+                "logging.level.root=WARN")
+            .run();
+        repository = context.getBean(CouponRepositoryAdapter.class);
+        // random start so reruns against the same database do not collide on codes
+        nextCode = ThreadLocalRandom.current().nextLong(1L << 34);
+
+        ids = new UUID[size];
+        codes = new String[size];
+        for (int start = 0; start < size; start += INSERT_BATCH) {
+            List<Coupon> batch = newCoupons(Math.min(INSERT_BATCH, size - start));
+            List<Coupon> saved = repository.saveAll(batch);
+            for (int i = 0; i < saved.size(); i++) {
+                ids[start + i] = saved.get(i).getId();
+                codes[start + i] = saved.get(i).getCode();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_BATCH)
+    public List<Coupon> insertBatch() {
+        return repository.saveAll(newCoupons(INSERT_BATCH));
+    }
+
+    @Benchmark
+    public Optional<Coupon> findById() {
+        return repository.findByIdAndNotDeleted(ids[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public Optional<Coupon> findByCode() {
+        return repository.findByCodeAndNotDeleted(codes[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    private List<Coupon> newCoupons(int count) {
+        LocalDateTime expirationDate = LocalDateTime.now().plusYears(1);
+        List<Coupon> coupons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String code = CouponCode.fromLong(nextCode++).toString();
+            coupons.add(Coupon.create(code, "Benchmark coupon", new BigDecimal("10.0"), expirationDate, true));
+        }
+        return coupons;
+    }
+}
@@ -0,0 +1,47 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.domain.CouponEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps appended events in a list, so use case benchmarks pay for building the event but not for
+ * storing it.
+ */
+public class InMemoryCouponEventRepository implements CouponEventRepository {
+
+    private final List<CouponEvent> events = new ArrayList<>();
+
+    @Override
+    public synchronized CouponEvent append(CouponEvent event) {
+        events.add(event);
+        return event;
+    }
+
+    @Override
+    public List<CouponEvent> findUnpublished(int limit) {
+        throw new UnsupportedOperationException("Events are not relayed in benchmarks");
+    }
+
+    @Override
+    public void markPublished(List<CouponEvent> published, LocalDateTime publishedAt) {
+        throw new UnsupportedOperationException("Events are not relayed in benchmarks");
+    }
+
+    @Override
+    public List<CouponEvent> findPublishedAfter(long position, int limit) {
+        throw new UnsupportedOperationException("Events are not relayed in benchmarks");
+    }
+
+    @Override
+    public long lastPosition() {
+        throw new UnsupportedOperationException("Events are not relayed in benchmarks");
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,206 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class InMemoryCouponRepository implements CouponRepository {
+
+    private static final Field ID_FIELD = idField();
+
+    private final Map<UUID, Coupon> coupons = new ConcurrentHashMap<>();
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        if (coupon.getId() == null) {
+            assignId(coupon, UUID.randomUUID());
+        }
+        coupons.put(coupon.getId(), coupon);
+        return coupon;
+    }
+
+    @Override
+    public List<Coupon> saveAll(List<Coupon> couponsToSave) {
+        List<Coupon> saved = new ArrayList<>(couponsToSave.size());
+        for (Coupon coupon : couponsToSave) {
+            saved.add(save(coupon));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Coupon> findByIdAndNotDeleted(UUID id) {
+        return findByIdIncludingDeleted(id).filter(coupon -> !coupon.isDeleted());
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIncludingDeleted(UUID id) {
+        return Optional.ofNullable(coupons.get(id));
+    }
+
+    @Override
+    public Optional<Coupon> findByCodeAndNotDeleted(String code) {
+        return coupons.values().stream()
+            .filter(coupon -> !coupon.isDeleted() && coupon.getCode().equals(code))
+            .findFirst();
+    }
+
+    @Override
+    public Optional<CouponView> findViewById(UUID id) {
+        return findByIdAndNotDeleted(id).map(CouponView::from);
+    }
+
+    @Override
+    public Optional<CouponView> findViewByCode(String code) {
+        return findByCodeAndNotDeleted(code).map(CouponView::from);
+    }
+
+    @Override
+    public synchronized boolean redeem(UUID id, LocalDateTime redeemedAt) {
+        Coupon coupon = coupons.get(id);
+        if (coupon == null || coupon.getRedeemed()) {
+            return false;
+        }
+        try {
+            coupon.redeem();
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized boolean delete(UUID id, LocalDateTime deletedAt) {
+        Coupon coupon = coupons.get(id);
+        if (coupon == null || coupon.isDeleted()) {
+            return false;
+        }
+        coupon.delete();
+        return true;
+    }
+
+    @Override
+    public boolean existsIncludingDeleted(UUID id) {
+        return coupons.containsKey(id);
+    }
+
+    @Override
+    public List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit) {
+        Comparator<Coupon> newestFirst = Comparator.comparing(Coupon::getCreatedAt)
+            .thenComparing(Coupon::getId)
+            .reversed();
+
+        return coupons.values().stream()
+            .filter(coupon -> !coupon.isDeleted())
+            .filter(coupon -> filter.getStatus() == null || filter.getStatus() == coupon.getStatus())
+            .filter(coupon -> filter.getPublished() == null || filter.getPublished().equals(coupon.getPublished()))
+            .filter(coupon -> filter.getRedeemed() == null || filter.getRedeemed().equals(coupon.getRedeemed()))
+            .filter(coupon -> filter.getExpiresFrom() == null || !coupon.getExpirationDate().isBefore(filter.getExpiresFrom()))
+            .filter(coupon -> filter.getExpiresTo() == null || coupon.getExpirationDate().isBefore(filter.getExpiresTo()))
+            .filter(coupon -> after == null || isBefore(coupon, after))
+            .sorted(newestFirst)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void streamAll(Consumer<CouponView> consumer) {
+        coupons.values().stream()
+            .filter(coupon -> !coupon.isDeleted())
+            .sorted(Comparator.comparing(Coupon::getCreatedAt).thenComparing(Coupon::getId))
+            .map(CouponView::from)
+            .forEach(consumer);
+    }
+
+    @Override
+    public synchronized int expireActive(LocalDateTime now, int limit) {
+        List<Coupon> expired = coupons.values().stream()
+            .filter(coupon -> coupon.getStatus() == CouponStatus.ACTIVE && coupon.getExpirationDate().isBefore(now))
+            .limit(limit)
+            .collect(Collectors.toList());
+        for (Coupon coupon : expired) {
+            coupon.expire(now);
+        }
+        return expired.size();
+    }
+
+    @Override
+    public synchronized CouponDeletionCounts deleteByIds(Collection<UUID> ids, LocalDateTime deletedAt) {
+        int deleted = 0;
+        int alreadyDeleted = 0;
+        int notFound = 0;
+        for (UUID id : ids) {
+            Coupon coupon = coupons.get(id);
+            if (coupon == null) {
+                notFound++;
+            } else if (coupon.isDeleted()) {
+                alreadyDeleted++;
+            } else {
+                coupon.delete();
+                deleted++;
+            }
+        }
+        return new CouponDeletionCounts(deleted, alreadyDeleted, notFound);
+    }
+
+    @Override
+    public synchronized int deleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit) {
+        List<Coupon> matching = coupons.values().stream()
+            .filter(coupon -> !coupon.isDeleted())
+            .filter(coupon -> filter.getCodePrefix() == null || coupon.getCode().startsWith(filter.getCodePrefix()))
+            .filter(coupon -> filter.getPublished() == null || filter.getPublished().equals(coupon.getPublished()))
+            .filter(coupon -> filter.getExpiresFrom() == null || !coupon.getExpirationDate().isBefore(filter.getExpiresFrom()))
+            .filter(coupon -> filter.getExpiresTo() == null || coupon.getExpirationDate().isBefore(filter.getExpiresTo()))
+            .limit(limit)
+            .collect(Collectors.toList());
+        for (Coupon coupon : matching) {
+            coupon.delete();
+        }
+        return matching.size();
+    }
+
+    public void clear() {
+        coupons.clear();
+    }
+
+    private static boolean isBefore(Coupon coupon, CouponCursor cursor) {
+        int byCreatedAt = coupon.getCreatedAt().compareTo(cursor.getCreatedAt());
+        return byCreatedAt < 0 || (byCreatedAt == 0 && coupon.getId().compareTo(cursor.getId()) < 0);
+    }
+
+    private static void assignId(Coupon coupon, UUID id) {
+        try {
+            ID_FIELD.set(coupon, id);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Field idField() {
+        try {
+            Field field = Coupon.class.getDeclaredField("id");
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
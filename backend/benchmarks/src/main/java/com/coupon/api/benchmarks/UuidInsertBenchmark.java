@@ -0,0 +1,146 @@
+package com.coupon.api.benchmarks;
+
+import com.coupon.api.infrastructure.persistence.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts {@code rows} primary keys with each id strategy and reports insert time plus the size of
+ * the primary key index (PostgreSQL) or of the whole database file (H2).
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar UuidInsertBenchmark -p rows=10000000
+ * java -jar target/benchmarks.jar UuidInsertBenchmark -p rows=10000000 \
+ *     -p url=jdbc:postgresql://localhost:5432/coupons -p user=coupon -p password=coupon
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_SIZE = 50_000;
+
+    @Param({"random", "time-ordered"})
+    public String generator;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({""})
+    public String url;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private Path h2Directory;
+    private Connection connection;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException, IOException {
+        String jdbcUrl = url;
+        if (jdbcUrl.isEmpty()) {
+            h2Directory = Files.createTempDirectory("uuid-insert-benchmark");
+            jdbcUrl = "jdbc:h2:file:" + h2Directory.resolve("bench").toAbsolutePath();
+        }
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_insert_benchmark");
+            statement.execute("CREATE TABLE uuid_insert_benchmark (id UUID PRIMARY KEY, code VARCHAR(6) NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        boolean timeOrdered = "time-ordered".equals(generator);
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO uuid_insert_benchmark (id, code) VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setObject(1, timeOrdered ? TimeOrderedUuid.next() : UUID.randomUUID());
+                statement.setString(2, "CP" + (i % 10_000));
+                statement.addBatch();
+
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+                if (i % COMMIT_SIZE == 0) {
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+        return rows;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException, IOException {
+        if (h2Directory == null) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(
+                         "SELECT pg_relation_size('uuid_insert_benchmark_pkey')")) {
+                resultSet.next();
+                report("primary key index size", resultSet.getLong(1));
+                statement.execute("DROP TABLE uuid_insert_benchmark");
+            }
+            connection.commit();
+            connection.close();
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+        connection.close();
+
+        long databaseSize = 0;
+        File[] files = h2Directory.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                databaseSize += file.length();
+                Files.delete(file.toPath());
+            }
+        }
+        Files.delete(h2Directory);
+        report("database file size", databaseSize);
+    }
+
+    private void report(String metric, long bytes) {
+        System.out.printf("%n%s ids, %d rows: %s = %.1f MB%n", generator, rows, metric, bytes / (1024.0 * 1024.0));
+    }
+}
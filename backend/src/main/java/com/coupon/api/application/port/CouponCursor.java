@@ -0,0 +1,14 @@
+package com.coupon.api.application.port;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Value
+public class CouponCursor {
+
+    private LocalDateTime createdAt;
+    private UUID id;
+
+}
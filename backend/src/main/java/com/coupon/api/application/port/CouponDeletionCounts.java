@@ -0,0 +1,12 @@
+package com.coupon.api.application.port;
+
+import lombok.Value;
+
+@Value
+public class CouponDeletionCounts {
+
+    private int deleted;
+    private int alreadyDeleted;
+    private int notFound;
+
+}
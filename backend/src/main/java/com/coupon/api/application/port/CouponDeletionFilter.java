@@ -0,0 +1,23 @@
+package com.coupon.api.application.port;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Selects coupons for a bulk delete. Unset criteria match everything; {@code expiresTo} is exclusive.
+ */
+@Value
+@Builder
+public class CouponDeletionFilter {
+
+    private String codePrefix;
+    private LocalDateTime expiresFrom;
+    private LocalDateTime expiresTo;
+    private Boolean published;
+
+    public boolean isEmpty() {
+        return codePrefix == null && expiresFrom == null && expiresTo == null && published == null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.domain.CouponEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The coupon outbox. Events are appended inside the caller's {@link UnitOfWork}, so they are stored
+ * if and only if the change they describe is.
+ */
+public interface CouponEventRepository {
+
+    CouponEvent append(CouponEvent event);
+
+    /**
+     * The oldest events not yet relayed, in append order.
+     */
+    List<CouponEvent> findUnpublished(int limit);
+
+    /**
+     * Stamps the events, in order, with the stream positions following the last one handed out.
+     */
+    void markPublished(List<CouponEvent> events, LocalDateTime publishedAt);
+
+    /**
+     * Relayed events with a stream position greater than {@code position}, in stream order.
+     */
+    List<CouponEvent> findPublishedAfter(long position, int limit);
+
+    /**
+     * The highest stream position handed out so far, or 0 before the first event was relayed.
+     */
+    long lastPosition();
+}
@@ -0,0 +1,15 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.domain.CouponEvent;
+
+import java.util.List;
+
+/**
+ * Where the relay hands outbox events. Delivery is at least once: a relay that stops between
+ * publishing a batch and marking it published sends that batch again, so sinks and their consumers
+ * deduplicate by event id.
+ */
+public interface CouponEventSink {
+
+    void publish(List<CouponEvent> events);
+}
@@ -0,0 +1,19 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.domain.CouponStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class CouponFilter {
+
+    private CouponStatus status;
+    private Boolean published;
+    private Boolean redeemed;
+    private LocalDateTime expiresFrom;
+    private LocalDateTime expiresTo;
+
+}
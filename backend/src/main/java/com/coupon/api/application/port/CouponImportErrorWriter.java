@@ -0,0 +1,23 @@
+package com.coupon.api.application.port;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CouponImportErrorWriter extends Closeable {
+
+    void write(long row, String code, String message) throws IOException;
+
+    /**
+     * @return the file offset where the next flushed error will start
+     */
+    long position() throws IOException;
+
+    /**
+     * Flushes buffered errors to the file.
+     *
+     * @return the file offset after the last error written
+     */
+    long flush() throws IOException;
+
+    void truncate(long offset) throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.domain.CouponImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface CouponImportFiles {
+
+    void store(UUID jobId, InputStream content) throws IOException;
+
+    CouponImportRowReader openRows(UUID jobId, CouponImportFormat format) throws IOException;
+
+    /**
+     * Opens the job's error file truncated to {@code offset}, discarding errors written after the
+     * last committed checkpoint.
+     */
+    CouponImportErrorWriter openErrors(UUID jobId, long offset) throws IOException;
+
+    InputStream readErrors(UUID jobId) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.domain.CouponImportJob;
+import com.coupon.api.domain.CouponImportStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface CouponImportJobRepository {
+
+    CouponImportJob save(CouponImportJob job);
+
+    Optional<CouponImportJob> findById(UUID id);
+
+    List<CouponImportJob> findByOwnerAndStatusIn(String owner, Collection<CouponImportStatus> statuses);
+
+    Set<String> findActiveCodes(Collection<String> codes);
+}
@@ -0,0 +1,20 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.dto.CouponRequestDTO;
+import lombok.Value;
+
+@Value
+public class CouponImportRow {
+
+    private long number;
+    private CouponRequestDTO request;
+    private String error;
+
+    public static CouponImportRow parsed(long number, CouponRequestDTO request) {
+        return new CouponImportRow(number, request, null);
+    }
+
+    public static CouponImportRow malformed(long number, String error) {
+        return new CouponImportRow(number, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.coupon.api.application.port;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pulls one row at a time from an uploaded file, so the file is never held in memory.
+ */
+public interface CouponImportRowReader extends Closeable {
+
+    /**
+     * @return the next row, or {@code null} at the end of the file
+     */
+    CouponImportRow next() throws IOException;
+}
@@ -2,16 +2,65 @@ package com.coupon.api.application.port;
 
 import com.coupon.api.domain.Coupon;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CouponRepository {
     
     Coupon save(Coupon coupon);
     
+    List<Coupon> saveAll(List<Coupon> coupons);
+    
     Optional<Coupon> findByIdAndNotDeleted(UUID id);
     
     Optional<Coupon> findByIdIncludingDeleted(UUID id);
     
     Optional<Coupon> findByCodeAndNotDeleted(String code);
+    
+    /**
+     * Read-only lookup of the fields a response needs, without loading a managed entity.
+     */
+    Optional<CouponView> findViewById(UUID id);
+    
+    Optional<CouponView> findViewByCode(String code);
+    
+    boolean redeem(UUID id, LocalDateTime redeemedAt);
+    
+    /**
+     * Soft-deletes the coupon with a single conditional update, without loading it.
+     *
+     * @return false when the coupon does not exist or is already deleted
+     */
+    boolean delete(UUID id, LocalDateTime deletedAt);
+    
+    boolean existsIncludingDeleted(UUID id);
+    
+    List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit);
+    
+    void streamAll(Consumer<CouponView> consumer);
+    
+    /**
+     * Moves up to {@code limit} active coupons whose expiration date is before {@code now} to INACTIVE.
+     *
+     * @return the number of coupons transitioned
+     */
+    int expireActive(LocalDateTime now, int limit);
+    
+    /**
+     * Soft-deletes the given coupons with set-based statements, without loading them. Ids must be distinct.
+     *
+     * @return how many were deleted now, were already deleted, or do not exist
+     */
+    CouponDeletionCounts deleteByIds(Collection<UUID> ids, LocalDateTime deletedAt);
+    
+    /**
+     * Soft-deletes up to {@code limit} not yet deleted coupons matching {@code filter}.
+     *
+     * @return the number of coupons deleted
+     */
+    int deleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit);
 }
@@ -0,0 +1,38 @@
+package com.coupon.api.application.port;
+
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Value
+public class CouponView {
+
+    private UUID id;
+    private String code;
+    private String description;
+    private BigDecimal discountValue;
+    private LocalDateTime expirationDate;
+    private CouponStatus status;
+    private Boolean published;
+    private Boolean redeemed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static CouponView from(Coupon coupon) {
+        return new CouponView(
+            coupon.getId(),
+            coupon.getCode(),
+            coupon.getDescription(),
+            coupon.getDiscountValue(),
+            coupon.getExpirationDate(),
+            coupon.getStatus(),
+            coupon.getPublished(),
+            coupon.getRedeemed(),
+            coupon.getCreatedAt(),
+            coupon.getUpdatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.coupon.api.application.port;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs several port calls as one atomic change: either all their writes are committed or none is.
+ */
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> work);
+
+    default void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
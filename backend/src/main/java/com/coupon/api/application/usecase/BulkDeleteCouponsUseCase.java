@@ -0,0 +1,161 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.dto.CouponBulkDeleteRequestDTO;
+import com.coupon.api.dto.CouponBulkDeleteResponseDTO;
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Soft-deletes many coupons with set-based updates in chunks of {@code chunkSize}, each chunk in its own
+ * transaction, so pulling a whole campaign neither loads the coupons nor holds one long transaction.
+ * A chunk that deleted anything appends one bulk change event in its transaction.
+ */
+public class BulkDeleteCouponsUseCase {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+    public static final int MAX_IDS = 500_000;
+
+    private final CouponRepository couponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
+    private final int chunkSize;
+
+    public BulkDeleteCouponsUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                                    UnitOfWork unitOfWork) {
+        this(couponRepository, couponEventRepository, unitOfWork, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BulkDeleteCouponsUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                                    UnitOfWork unitOfWork, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.couponRepository = couponRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
+        this.chunkSize = chunkSize;
+    }
+
+    public CouponBulkDeleteResponseDTO execute(CouponBulkDeleteRequestDTO request) {
+        if (request == null) {
+            throw new InvalidCouponException("Ids or a filter are required");
+        }
+        CouponDeletionFilter filter = CouponDeletionFilter.builder()
+            .codePrefix(request.getCodePrefix())
+            .expiresFrom(request.getExpiresFrom())
+            .expiresTo(request.getExpiresTo())
+            .published(request.getPublished())
+            .build();
+
+        if (request.getIds() != null) {
+            if (!filter.isEmpty()) {
+                throw new InvalidCouponException("Delete either by ids or by filter, not both");
+            }
+            return deleteByIds(request.getIds());
+        }
+        if (filter.isEmpty()) {
+            throw new InvalidCouponException("Ids or a filter are required");
+        }
+        return deleteMatching(filter);
+    }
+
+    private CouponBulkDeleteResponseDTO deleteByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            throw new InvalidCouponException("At least one id is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new InvalidCouponException("Cannot delete more than " + MAX_IDS + " coupons by id at once");
+        }
+
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.contains(null)) {
+            throw new InvalidCouponException("Ids cannot be null");
+        }
+        LocalDateTime deletedAt = LocalDateTime.now();
+        long deleted = 0;
+        long alreadyDeleted = 0;
+        long notFound = 0;
+        List<UUID> chunk = new ArrayList<>(chunkSize);
+        for (UUID id : distinctIds) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                CouponDeletionCounts counts = deleteChunk(chunk, deletedAt);
+                deleted += counts.getDeleted();
+                alreadyDeleted += counts.getAlreadyDeleted();
+                notFound += counts.getNotFound();
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            CouponDeletionCounts counts = deleteChunk(chunk, deletedAt);
+            deleted += counts.getDeleted();
+            alreadyDeleted += counts.getAlreadyDeleted();
+            notFound += counts.getNotFound();
+        }
+
+        return CouponBulkDeleteResponseDTO.builder()
+            .deleted(deleted)
+            .alreadyDeleted(alreadyDeleted)
+            .notFound(notFound)
+            .build();
+    }
+
+    /**
+     * Coupons already deleted never match the filter, so only {@code deleted} is counted.
+     */
+    private CouponBulkDeleteResponseDTO deleteMatching(CouponDeletionFilter filter) {
+        if (filter.getCodePrefix() != null) {
+            // rejects a malformed prefix before the first chunk runs
+            CouponCode.lowestWithPrefix(filter.getCodePrefix());
+        }
+        if (filter.getExpiresFrom() != null && filter.getExpiresTo() != null
+                && !filter.getExpiresFrom().isBefore(filter.getExpiresTo())) {
+            throw new InvalidCouponException("expiresFrom must be before expiresTo");
+        }
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        long deleted = 0;
+        int chunkDeleted;
+        do {
+            chunkDeleted = unitOfWork.execute(() -> {
+                int matched = couponRepository.deleteMatching(filter, deletedAt, chunkSize);
+                recordBulkChange(matched);
+                return matched;
+            });
+            deleted += chunkDeleted;
+        } while (chunkDeleted == chunkSize);
+
+        return CouponBulkDeleteResponseDTO.builder()
+            .deleted(deleted)
+            .alreadyDeleted(0L)
+            .notFound(0L)
+            .build();
+    }
+
+    private CouponDeletionCounts deleteChunk(List<UUID> ids, LocalDateTime deletedAt) {
+        return unitOfWork.execute(() -> {
+            CouponDeletionCounts counts = couponRepository.deleteByIds(ids, deletedAt);
+            recordBulkChange(counts.getDeleted());
+            return counts;
+        });
+    }
+
+    private void recordBulkChange(long deleted) {
+        if (deleted > 0) {
+            couponEventRepository.append(CouponEvent.bulkChanged(LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.dto.CouponBatchErrorDTO;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Creates coupons in chunks, each saved in one batch together with a single bulk change event rather
+ * than one event per coupon. A chunk that fails is retried coupon by coupon, each with its own
+ * created event, so one bad coupon does not reject the rest.
+ */
+public class CreateCouponBatchUseCase {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 200_000;
+
+    private final CouponRepository couponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
+    private final int chunkSize;
+
+    public CreateCouponBatchUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                                    UnitOfWork unitOfWork) {
+        this(couponRepository, couponEventRepository, unitOfWork, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CreateCouponBatchUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                                    UnitOfWork unitOfWork, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.couponRepository = couponRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
+        this.chunkSize = chunkSize;
+    }
+
+    public CouponBatchResponseDTO execute(List<CouponRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidCouponException("Batch must contain at least one coupon");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidCouponException("Batch cannot contain more than " + MAX_BATCH_SIZE + " coupons");
+        }
+
+        List<CouponResponseDTO> created = new ArrayList<>(requests.size());
+        List<CouponBatchErrorDTO> errors = new ArrayList<>();
+        List<Coupon> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+        for (int index = 0; index < requests.size(); index++) {
+            CouponRequestDTO request = requests.get(index);
+            try {
+                chunk.add(toCoupon(request));
+                chunkIndexes.add(index);
+            } catch (InvalidCouponException ex) {
+                errors.add(toError(index, request, ex));
+            }
+
+            if (chunk.size() == chunkSize) {
+                persistChunk(requests, chunk, chunkIndexes, created, errors);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            persistChunk(requests, chunk, chunkIndexes, created, errors);
+        }
+
+        errors.sort(Comparator.comparing(CouponBatchErrorDTO::getIndex));
+
+        return CouponBatchResponseDTO.builder()
+            .total(requests.size())
+            .created(created.size())
+            .failed(errors.size())
+            .coupons(created)
+            .errors(errors)
+            .build();
+    }
+
+    private void persistChunk(List<CouponRequestDTO> requests, List<Coupon> chunk, List<Integer> chunkIndexes,
+                              List<CouponResponseDTO> created, List<CouponBatchErrorDTO> errors) {
+        try {
+            List<Coupon> savedCoupons = unitOfWork.execute(() -> {
+                List<Coupon> saved = couponRepository.saveAll(chunk);
+                couponEventRepository.append(CouponEvent.bulkChanged(LocalDateTime.now()));
+                return saved;
+            });
+            for (Coupon savedCoupon : savedCoupons) {
+                created.add(toResponse(savedCoupon));
+            }
+        } catch (RuntimeException chunkFailure) {
+            for (Integer index : chunkIndexes) {
+                CouponRequestDTO request = requests.get(index);
+                try {
+                    created.add(toResponse(saveOne(request)));
+                } catch (RuntimeException ex) {
+                    errors.add(toError(index, request, ex));
+                }
+            }
+        } finally {
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+    }
+
+    private Coupon saveOne(CouponRequestDTO request) {
+        Coupon coupon = toCoupon(request);
+        return unitOfWork.execute(() -> {
+            Coupon saved = couponRepository.save(coupon);
+            couponEventRepository.append(CouponEvent.created(saved));
+            return saved;
+        });
+    }
+
+    private Coupon toCoupon(CouponRequestDTO request) {
+        if (request == null) {
+            throw new InvalidCouponException("Coupon is required");
+        }
+        return Coupon.create(
+            request.getCode(),
+            request.getDescription(),
+            request.getDiscountValue(),
+            request.getExpirationDate(),
+            request.getPublished()
+        );
+    }
+
+    private CouponBatchErrorDTO toError(int index, CouponRequestDTO request, RuntimeException ex) {
+        return CouponBatchErrorDTO.builder()
+            .index(index)
+            .code(request != null ? request.getCode() : null)
+            .message(ex instanceof InvalidCouponException ? ex.getMessage() : "Could not persist coupon")
+            .build();
+    }
+
+    private CouponResponseDTO toResponse(Coupon coupon) {
+        return CouponResponseDTO.builder()
+            .id(coupon.getId())
+            .code(coupon.getCode())
+            .description(coupon.getDescription())
+            .discountValue(coupon.getDiscountValue())
+            .expirationDate(coupon.getExpirationDate())
+            .status(coupon.getStatus())
+            .published(coupon.getPublished())
+            .redeemed(coupon.getRedeemed())
+            .build();
+    }
+}
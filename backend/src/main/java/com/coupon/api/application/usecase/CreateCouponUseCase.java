@@ -1,16 +1,24 @@
 package com.coupon.api.application.usecase;
 
+import com.coupon.api.application.port.CouponEventRepository;
 import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
 import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.dto.CouponResponseDTO;
 
 public class CreateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
 
-    public CreateCouponUseCase(CouponRepository couponRepository) {
+    public CreateCouponUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                               UnitOfWork unitOfWork) {
         this.couponRepository = couponRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
     }
 
     public CouponResponseDTO execute(CouponRequestDTO request) {
@@ -22,7 +30,11 @@ public class CreateCouponUseCase {
             request.getPublished()
         );
 
-        Coupon savedCoupon = couponRepository.save(coupon);
+        Coupon savedCoupon = unitOfWork.execute(() -> {
+            Coupon saved = couponRepository.save(coupon);
+            couponEventRepository.append(CouponEvent.created(saved));
+            return saved;
+        });
 
         return CouponResponseDTO.builder()
             .id(savedCoupon.getId())
@@ -1,25 +1,47 @@
 package com.coupon.api.application.usecase;
 
+import com.coupon.api.application.port.CouponEventRepository;
 import com.coupon.api.application.port.CouponRepository;
-import com.coupon.api.domain.Coupon;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.exception.CouponAlreadyDeletedException;
 import com.coupon.api.exception.CouponNotFoundException;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public class DeleteCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
 
-    public DeleteCouponUseCase(CouponRepository couponRepository) {
+    public DeleteCouponUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                               UnitOfWork unitOfWork) {
         this.couponRepository = couponRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
     }
 
+    /**
+     * One conditional update in the common case; the existence probe only runs when nothing was
+     * updated, to tell a missing coupon from one already deleted.
+     */
     public void execute(UUID id) {
-        Coupon coupon = couponRepository.findByIdIncludingDeleted(id)
-            .orElseThrow(() -> new CouponNotFoundException("Coupon not found with id: " + id));
-
-        coupon.delete();
-
-        couponRepository.save(coupon);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        boolean deleted = unitOfWork.execute(() -> {
+            if (!couponRepository.delete(id, deletedAt)) {
+                return false;
+            }
+            couponEventRepository.append(CouponEvent.deleted(id, deletedAt));
+            return true;
+        });
+        if (deleted) {
+            return;
+        }
+        if (couponRepository.existsIncludingDeleted(id)) {
+            throw new CouponAlreadyDeletedException("Coupon is already deleted");
+        }
+        throw new CouponNotFoundException("Coupon not found with id: " + id);
     }
 }
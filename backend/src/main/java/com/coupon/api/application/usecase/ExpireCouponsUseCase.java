@@ -0,0 +1,100 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.dto.CouponExpirationRunDTO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves expired ACTIVE coupons to INACTIVE in bounded batches. Each batch is its own short UPDATE
+ * transaction and the sweep pauses between batches, so a large backlog is drained over several runs
+ * without holding locks or saturating the connection pool. The updates are not published coupon by
+ * coupon: a batch that expired anything appends one bulk change event in its own transaction.
+ */
+public class ExpireCouponsUseCase {
+
+    private final CouponRepository couponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatches;
+
+    private final AtomicLong totalRuns = new AtomicLong();
+    private final AtomicLong totalExpired = new AtomicLong();
+    private volatile CouponExpirationRunDTO lastRun;
+
+    public ExpireCouponsUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                                UnitOfWork unitOfWork, int batchSize, Duration pause, int maxBatches) {
+        this.couponRepository = couponRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatches = maxBatches;
+    }
+
+    public CouponExpirationRunDTO execute() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        long expired = 0;
+        int batches = 0;
+
+        while (batches < maxBatches) {
+            int transitioned = unitOfWork.execute(this::expireBatch);
+            batches++;
+            expired += transitioned;
+            if (transitioned < batchSize || batches == maxBatches || !pause()) {
+                break;
+            }
+        }
+        CouponExpirationRunDTO run = CouponExpirationRunDTO.builder()
+            .startedAt(startedAt)
+            .durationMillis((System.nanoTime() - started) / 1_000_000)
+            .batches(batches)
+            .expired(expired)
+            .totalRuns(totalRuns.incrementAndGet())
+            .totalExpired(totalExpired.addAndGet(expired))
+            .build();
+        lastRun = run;
+        return run;
+    }
+
+    private int expireBatch() {
+        int transitioned = couponRepository.expireActive(LocalDateTime.now(), batchSize);
+        if (transitioned > 0) {
+            couponEventRepository.append(CouponEvent.bulkChanged(LocalDateTime.now()));
+        }
+        return transitioned;
+    }
+
+    public CouponExpirationRunDTO lastRun() {
+        return lastRun;
+    }
+
+    public long totalRuns() {
+        return totalRuns.get();
+    }
+
+    public long totalExpired() {
+        return totalExpired.get();
+    }
+
+    private boolean pause() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+
+import java.util.function.Consumer;
+
+public class ExportCouponsUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public ExportCouponsUseCase(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    public void execute(Consumer<CouponView> consumer) {
+        couponRepository.streamAll(consumer);
+    }
+}
@@ -0,0 +1,34 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.CouponNotFoundException;
+
+public class GetCouponByCodeUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public GetCouponByCodeUseCase(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    public CouponResponseDTO execute(String code) {
+        String sanitizedCode = Coupon.sanitizeAndValidateCode(code);
+
+        CouponView coupon = couponRepository.findViewByCode(sanitizedCode)
+            .orElseThrow(() -> new CouponNotFoundException("Coupon not found with code: " + sanitizedCode));
+
+        return CouponResponseDTO.builder()
+            .id(coupon.getId())
+            .code(coupon.getCode())
+            .description(coupon.getDescription())
+            .discountValue(coupon.getDiscountValue())
+            .expirationDate(coupon.getExpirationDate())
+            .status(coupon.getStatus())
+            .published(coupon.getPublished())
+            .redeemed(coupon.getRedeemed())
+            .build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.coupon.api.application.usecase;
 
 import com.coupon.api.application.port.CouponRepository;
-import com.coupon.api.domain.Coupon;
+import com.coupon.api.application.port.CouponView;
 import com.coupon.api.dto.CouponResponseDTO;
 import com.coupon.api.exception.CouponNotFoundException;
 
@@ -16,9 +16,15 @@ public class GetCouponByIdUseCase {
     }
 
     public CouponResponseDTO execute(UUID id) {
-        Coupon coupon = couponRepository.findByIdAndNotDeleted(id)
+        return toResponse(findView(id));
+    }
+
+    public CouponView findView(UUID id) {
+        return couponRepository.findViewById(id)
             .orElseThrow(() -> new CouponNotFoundException("Coupon not found with id: " + id));
+    }
 
+    public CouponResponseDTO toResponse(CouponView coupon) {
         return CouponResponseDTO.builder()
             .id(coupon.getId())
             .code(coupon.getCode())
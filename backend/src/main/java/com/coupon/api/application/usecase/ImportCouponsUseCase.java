@@ -0,0 +1,242 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponImportErrorWriter;
+import com.coupon.api.application.port.CouponImportFiles;
+import com.coupon.api.application.port.CouponImportJobRepository;
+import com.coupon.api.application.port.CouponImportRow;
+import com.coupon.api.application.port.CouponImportRowReader;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponImportFormat;
+import com.coupon.api.domain.CouponImportJob;
+import com.coupon.api.domain.CouponImportStatus;
+import com.coupon.api.dto.CouponImportJobDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.exception.CouponNotFoundException;
+import com.coupon.api.exception.DuplicateCouponCodeException;
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Imports coupon files in fixed-size chunks. Rows are pulled from the file only after the previous
+ * chunk has been committed, so memory is bounded by the chunk size regardless of the file size.
+ * Each chunk's coupons and the job checkpoint commit together, the coupons through the
+ * {@link CouponRepository} so its decorators learn about them; errors are appended to the job's
+ * error file before that commit and rolled back to the checkpointed offset on resume. A chunk that
+ * imported any coupon also commits one bulk change event.
+ */
+public class ImportCouponsUseCase {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    static final int MAX_COMMIT_ATTEMPTS = 3;
+
+    private final CouponRepository couponRepository;
+    private final CouponImportJobRepository jobRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
+    private final CouponImportFiles files;
+    private final Executor executor;
+    private final int chunkSize;
+    private final String owner;
+
+    /**
+     * @param owner identifies this node; jobs are resumed only by the node that stored their upload
+     */
+    public ImportCouponsUseCase(CouponRepository couponRepository, CouponImportJobRepository jobRepository,
+                                CouponEventRepository couponEventRepository, UnitOfWork unitOfWork,
+                                CouponImportFiles files, Executor executor, int chunkSize, String owner) {
+        this.couponRepository = couponRepository;
+        this.jobRepository = jobRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
+        this.files = files;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.owner = owner;
+    }
+
+    public CouponImportJobDTO start(CouponImportFormat format, InputStream content) {
+        CouponImportJob job = jobRepository.save(CouponImportJob.create(format, owner));
+        try {
+            files.store(job.getId(), content);
+        } catch (IOException ex) {
+            job.fail("Could not store upload: " + ex.getMessage());
+            return toResponse(jobRepository.save(job));
+        }
+
+        job.received();
+        job = jobRepository.save(job);
+        submit(job.getId());
+        return toResponse(job);
+    }
+
+    public CouponImportJobDTO getJob(UUID id) {
+        return toResponse(findJob(id));
+    }
+
+    public InputStream readErrors(UUID id) throws IOException {
+        findJob(id);
+        return files.readErrors(id);
+    }
+
+    /**
+     * Re-submits jobs this node left pending or running in a previous process; jobs owned by other
+     * nodes are left to them, since the upload is on their filesystem. Jobs whose upload was cut off
+     * cannot be resumed and are failed.
+     */
+    public void resumeUnfinished() {
+        List<CouponImportJob> unfinished = jobRepository.findByOwnerAndStatusIn(owner, Arrays.asList(
+            CouponImportStatus.RECEIVING, CouponImportStatus.PENDING, CouponImportStatus.RUNNING));
+
+        for (CouponImportJob job : unfinished) {
+            if (job.getStatus() == CouponImportStatus.RECEIVING) {
+                job.fail("Upload was interrupted");
+                jobRepository.save(job);
+            } else {
+                submit(job.getId());
+            }
+        }
+    }
+
+    public void run(UUID jobId) {
+        CouponImportJob job = findJob(jobId);
+        if (job.isFinished()) {
+            return;
+        }
+        job.start();
+        job = jobRepository.save(job);
+
+        try (CouponImportRowReader rows = files.openRows(jobId, job.getFormat());
+             CouponImportErrorWriter errors = files.openErrors(jobId, job.getErrorFileOffset())) {
+
+            for (long skipped = 0; skipped < job.getProcessedRows(); skipped++) {
+                if (rows.next() == null) {
+                    break;
+                }
+            }
+
+            List<CouponImportRow> chunk = new ArrayList<>(chunkSize);
+            for (CouponImportRow row = rows.next(); row != null; row = rows.next()) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    job = commitChunk(job, chunk, errors);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                job = commitChunk(job, chunk, errors);
+            }
+
+            job.complete();
+            jobRepository.save(job);
+        } catch (IOException | RuntimeException ex) {
+            CouponImportJob failed = jobRepository.findById(jobId).orElse(job);
+            failed.fail(ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
+            jobRepository.save(failed);
+        }
+    }
+
+    private CouponImportJob commitChunk(CouponImportJob job, List<CouponImportRow> chunk,
+                                        CouponImportErrorWriter errors) throws IOException {
+        long errorOffset = errors.position();
+
+        for (int attempt = 1; ; attempt++) {
+            List<Coupon> coupons = new ArrayList<>(chunk.size());
+            int failed = 0;
+            Set<String> codes = new HashSet<>();
+            List<CouponImportRow> valid = new ArrayList<>(chunk.size());
+            List<Coupon> candidates = new ArrayList<>(chunk.size());
+
+            for (CouponImportRow row : chunk) {
+                if (row.getError() != null) {
+                    errors.write(row.getNumber(), null, row.getError());
+                    failed++;
+                    continue;
+                }
+                CouponRequestDTO request = row.getRequest();
+                try {
+                    Coupon coupon = Coupon.create(request.getCode(), request.getDescription(),
+                        request.getDiscountValue(), request.getExpirationDate(), request.getPublished());
+                    if (!codes.add(coupon.getCode())) {
+                        errors.write(row.getNumber(), coupon.getCode(), "Duplicate code within file");
+                        failed++;
+                        continue;
+                    }
+                    valid.add(row);
+                    candidates.add(coupon);
+                } catch (InvalidCouponException ex) {
+                    errors.write(row.getNumber(), request.getCode(), ex.getMessage());
+                    failed++;
+                }
+            }
+
+            Set<String> existing = codes.isEmpty() ? codes : jobRepository.findActiveCodes(codes);
+            for (int i = 0; i < candidates.size(); i++) {
+                Coupon coupon = candidates.get(i);
+                if (existing.contains(coupon.getCode())) {
+                    errors.write(valid.get(i).getNumber(), coupon.getCode(),
+                        "Coupon code already exists: " + coupon.getCode());
+                    failed++;
+                } else {
+                    coupons.add(coupon);
+                }
+            }
+
+            job.checkpoint(chunk.size(), coupons.size(), failed, errors.flush());
+            try {
+                CouponImportJob checkpointed = job;
+                return unitOfWork.execute(() -> {
+                    if (!coupons.isEmpty()) {
+                        couponRepository.saveAll(coupons);
+                        couponEventRepository.append(CouponEvent.bulkChanged(LocalDateTime.now()));
+                    }
+                    return jobRepository.save(checkpointed);
+                });
+            } catch (DuplicateCouponCodeException ex) {
+                // a concurrent insert claimed one of the codes after the lookup above
+                if (attempt == MAX_COMMIT_ATTEMPTS) {
+                    throw ex;
+                }
+                errors.truncate(errorOffset);
+                job = findJob(job.getId());
+            }
+        }
+    }
+
+    private void submit(UUID jobId) {
+        executor.execute(() -> run(jobId));
+    }
+
+    private CouponImportJob findJob(UUID id) {
+        return jobRepository.findById(id)
+            .orElseThrow(() -> new CouponNotFoundException("Import job not found with ID: " + id));
+    }
+
+    private CouponImportJobDTO toResponse(CouponImportJob job) {
+        return CouponImportJobDTO.builder()
+            .id(job.getId())
+            .format(job.getFormat())
+            .status(job.getStatus())
+            .processedRows(job.getProcessedRows())
+            .importedRows(job.getImportedRows())
+            .failedRows(job.getFailedRows())
+            .message(job.getMessage())
+            .createdAt(job.getCreatedAt())
+            .updatedAt(job.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponPageDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+public class ListCouponsUseCase {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final CouponRepository couponRepository;
+
+    public ListCouponsUseCase(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    public CouponPageDTO execute(CouponFilter filter, String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new InvalidCouponException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<Coupon> coupons = couponRepository.findPage(filter, decodeCursor(cursor), pageSize + 1);
+
+        boolean hasMore = coupons.size() > pageSize;
+        List<Coupon> page = hasMore ? coupons.subList(0, pageSize) : coupons;
+
+        List<CouponResponseDTO> items = new ArrayList<>(page.size());
+        for (Coupon coupon : page) {
+            items.add(CouponResponseDTO.builder()
+                .id(coupon.getId())
+                .code(coupon.getCode())
+                .description(coupon.getDescription())
+                .discountValue(coupon.getDiscountValue())
+                .expirationDate(coupon.getExpirationDate())
+                .status(coupon.getStatus())
+                .published(coupon.getPublished())
+                .redeemed(coupon.getRedeemed())
+                .build());
+        }
+
+        return CouponPageDTO.builder()
+            .items(items)
+            .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+            .build();
+    }
+
+    private String encodeCursor(Coupon last) {
+        String raw = last.getCreatedAt() + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CouponCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            return new CouponCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidCouponException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.dto.CouponEventDTO;
+import com.coupon.api.dto.CouponEventPageDTO;
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pages through the relayed coupon events by stream position. The cursor is the position of the last
+ * event a consumer has seen; an empty page hands the same cursor back.
+ */
+public class ReadCouponEventsUseCase {
+
+    public static final int MAX_LIMIT = 1_000;
+
+    private final CouponEventRepository couponEventRepository;
+
+    public ReadCouponEventsUseCase(CouponEventRepository couponEventRepository) {
+        this.couponEventRepository = couponEventRepository;
+    }
+
+    public CouponEventPageDTO execute(long after, int limit) {
+        validate(after, limit);
+
+        List<CouponEvent> events = couponEventRepository.findPublishedAfter(after, limit);
+
+        List<CouponEventDTO> items = new ArrayList<>(events.size());
+        for (CouponEvent event : events) {
+            items.add(CouponEventDTO.builder()
+                .id(event.getId())
+                .position(event.getStreamPosition())
+                .couponId(event.getCouponId())
+                .type(event.getType())
+                .status(event.getCouponStatus())
+                .occurredAt(event.getOccurredAt())
+                .build());
+        }
+
+        return CouponEventPageDTO.builder()
+            .events(items)
+            .nextCursor(events.isEmpty() ? after : events.get(events.size() - 1).getStreamPosition())
+            .build();
+    }
+
+    public void validate(long after, int limit) {
+        if (after < 0) {
+            throw new InvalidCouponException("Cursor must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidCouponException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
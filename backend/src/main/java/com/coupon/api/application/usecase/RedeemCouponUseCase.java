@@ -0,0 +1,75 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.CouponNotFoundException;
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.util.Optional;
+
+public class RedeemCouponUseCase {
+
+    private final CouponRepository couponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final UnitOfWork unitOfWork;
+
+    public RedeemCouponUseCase(CouponRepository couponRepository, CouponEventRepository couponEventRepository,
+                               UnitOfWork unitOfWork) {
+        this.couponRepository = couponRepository;
+        this.couponEventRepository = couponEventRepository;
+        this.unitOfWork = unitOfWork;
+    }
+
+    public CouponResponseDTO execute(String code) {
+        String sanitizedCode = Coupon.sanitizeAndValidateCode(code);
+
+        Coupon coupon = couponRepository.findByCodeAndNotDeleted(sanitizedCode)
+            .orElseThrow(() -> new CouponNotFoundException("Coupon not found with code: " + sanitizedCode));
+
+        coupon.redeem();
+
+        boolean redeemed = unitOfWork.execute(() -> {
+            if (!couponRepository.redeem(coupon.getId(), coupon.getUpdatedAt())) {
+                return false;
+            }
+            couponEventRepository.append(CouponEvent.redeemed(coupon));
+            return true;
+        });
+        if (!redeemed) {
+            throw lostRedemption(coupon);
+        }
+
+        return CouponResponseDTO.builder()
+            .id(coupon.getId())
+            .code(coupon.getCode())
+            .description(coupon.getDescription())
+            .discountValue(coupon.getDiscountValue())
+            .expirationDate(coupon.getExpirationDate())
+            .status(coupon.getStatus())
+            .published(coupon.getPublished())
+            .redeemed(coupon.getRedeemed())
+            .build();
+    }
+
+    /**
+     * The conditional update matched no row, so the coupon changed after it was read. It is read
+     * again to report why: redeemed, expired or deactivated, or gone, which includes deleted. A coupon
+     * that reads as redeemable again is reported as a concurrent change rather than guessed at.
+     */
+    private RuntimeException lostRedemption(Coupon coupon) {
+        Optional<Coupon> current = couponRepository.findByIdAndNotDeleted(coupon.getId());
+        if (!current.isPresent()) {
+            return new CouponNotFoundException("Coupon not found with code: " + coupon.getCode());
+        }
+        try {
+            current.get().ensureRedeemable();
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+        return new InvalidCouponException("Coupon changed while it was being redeemed");
+    }
+}
@@ -0,0 +1,49 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponEventSink;
+import com.coupon.api.domain.CouponEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves outbox events to the sink in batches, oldest first. A batch is marked published only after
+ * the sink accepted it, so a failed publish is retried by the next run. Runs are serialized, because
+ * two relays would hand the same batch to the sink twice.
+ */
+public class RelayCouponEventsUseCase {
+
+    private final CouponEventRepository couponEventRepository;
+    private final CouponEventSink couponEventSink;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public RelayCouponEventsUseCase(CouponEventRepository couponEventRepository, CouponEventSink couponEventSink,
+                                    int batchSize, int maxBatches) {
+        this.couponEventRepository = couponEventRepository;
+        this.couponEventSink = couponEventSink;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * @return the number of events relayed
+     */
+    public synchronized int execute() {
+        int relayed = 0;
+        for (int batches = 0; batches < maxBatches; batches++) {
+            List<CouponEvent> events = couponEventRepository.findUnpublished(batchSize);
+            if (events.isEmpty()) {
+                break;
+            }
+            couponEventSink.publish(events);
+            couponEventRepository.markPublished(events, LocalDateTime.now());
+            relayed += events.size();
+            if (events.size() < batchSize) {
+                break;
+            }
+        }
+        return relayed;
+    }
+}
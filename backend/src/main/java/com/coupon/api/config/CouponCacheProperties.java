@@ -0,0 +1,16 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.cache")
+public class CouponCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 100_000;
+    private Duration ttl = Duration.ofMinutes(5);
+
+}
@@ -0,0 +1,67 @@
+package com.coupon.api.config;
+
+import com.coupon.api.infrastructure.filter.CouponCodeFilter;
+import com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(CouponCodeFilterProperties.class)
+@ConditionalOnProperty(name = "coupon.code-filter.enabled", havingValue = "true")
+public class CouponCodeFilterConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService couponCodeFilterExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-code-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public CouponCodeFilter couponCodeFilter(CouponRepositoryAdapter couponRepositoryAdapter,
+                                             ExecutorService couponCodeFilterExecutor,
+                                             CouponCodeFilterProperties properties) {
+        return new CouponCodeFilter(couponRepositoryAdapter, couponCodeFilterExecutor,
+            properties.getExpectedInsertions(), properties.getFalsePositiveRate(), properties.getMaxStaleRatio());
+    }
+
+    @Bean
+    public ApplicationRunner couponCodeFilterLoader(CouponCodeFilter couponCodeFilter) {
+        return args -> couponCodeFilter.rebuildAsync();
+    }
+
+    /**
+     * The filter only learns the codes created through this instance between rebuilds, so it is
+     * rebuilt on a fixed interval to pick up codes written by other instances.
+     */
+    @Configuration
+    @EnableScheduling
+    static class CouponCodeFilterRebuild implements SchedulingConfigurer {
+
+        private final CouponCodeFilter couponCodeFilter;
+        private final CouponCodeFilterProperties properties;
+
+        CouponCodeFilterRebuild(CouponCodeFilter couponCodeFilter, CouponCodeFilterProperties properties) {
+            this.couponCodeFilter = couponCodeFilter;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            long interval = properties.getRebuildInterval().toMillis();
+            taskRegistrar.addFixedDelayTask(new IntervalTask(couponCodeFilter::rebuildAsync, interval, interval));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.code-filter")
+public class CouponCodeFilterProperties {
+
+    private boolean enabled = false;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private double maxStaleRatio = 0.1;
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,65 @@
+package com.coupon.api.config;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.application.usecase.ExpireCouponsUseCase;
+import com.coupon.api.dto.CouponExpirationRunDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableConfigurationProperties(CouponExpirationProperties.class)
+public class CouponExpirationConfig {
+
+    @Bean
+    public ExpireCouponsUseCase expireCouponsUseCase(CouponRepository couponRepository,
+                                                     CouponEventRepository couponEventRepository,
+                                                     UnitOfWork unitOfWork,
+                                                     CouponExpirationProperties properties) {
+        return new ExpireCouponsUseCase(couponRepository, couponEventRepository, unitOfWork,
+            properties.getBatchSize(), properties.getPause(), properties.getMaxBatches());
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "coupon.expiration.enabled", havingValue = "true", matchIfMissing = true)
+    static class CouponExpirationScheduling implements SchedulingConfigurer {
+
+        private static final Logger log = LoggerFactory.getLogger(CouponExpirationScheduling.class);
+
+        private final ExpireCouponsUseCase expireCouponsUseCase;
+        private final CouponExpirationProperties properties;
+
+        CouponExpirationScheduling(ExpireCouponsUseCase expireCouponsUseCase, CouponExpirationProperties properties) {
+            this.expireCouponsUseCase = expireCouponsUseCase;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            long interval = properties.getInterval().toMillis();
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::sweep, interval, interval));
+        }
+
+        private void sweep() {
+            try {
+                CouponExpirationRunDTO run = expireCouponsUseCase.execute();
+                if (run.getExpired() > 0) {
+                    log.info("Expired {} coupons in {} batches ({} ms)",
+                        run.getExpired(), run.getBatches(), run.getDurationMillis());
+                }
+            } catch (RuntimeException ex) {
+                log.error("Coupon expiration sweep failed", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.expiration")
+public class CouponExpirationProperties {
+
+    private boolean enabled = true;
+    private Duration interval = Duration.ofMinutes(1);
+    private int batchSize = 1_000;
+    private Duration pause = Duration.ofMillis(100);
+    private int maxBatches = 100;
+
+}
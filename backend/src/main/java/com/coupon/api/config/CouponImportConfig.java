@@ -0,0 +1,56 @@
+package com.coupon.api.config;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponImportFiles;
+import com.coupon.api.application.port.CouponImportJobRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.application.usecase.ImportCouponsUseCase;
+import com.coupon.api.infrastructure.imports.FileSystemCouponImportFiles;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(CouponImportProperties.class)
+public class CouponImportConfig {
+
+    @Bean
+    public CouponImportFiles couponImportFiles(CouponImportProperties properties, ObjectMapper objectMapper) {
+        return new FileSystemCouponImportFiles(Paths.get(properties.getDirectory()), objectMapper);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService couponImportExecutor(CouponImportProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "coupon-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public ImportCouponsUseCase importCouponsUseCase(CouponRepository couponRepository,
+                                                     CouponImportJobRepository couponImportJobRepository,
+                                                     CouponEventRepository couponEventRepository,
+                                                     UnitOfWork unitOfWork,
+                                                     CouponImportFiles couponImportFiles,
+                                                     ExecutorService couponImportExecutor,
+                                                     CouponImportProperties properties) {
+        return new ImportCouponsUseCase(couponRepository, couponImportJobRepository, couponEventRepository,
+            unitOfWork, couponImportFiles, couponImportExecutor, properties.getChunkSize(), properties.getNodeId());
+    }
+
+    @Bean
+    public ApplicationRunner couponImportResumer(ImportCouponsUseCase importCouponsUseCase) {
+        return args -> importCouponsUseCase.resumeUnfinished();
+    }
+}
@@ -0,0 +1,35 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Paths;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.import")
+public class CouponImportProperties {
+
+    /**
+     * Where uploads and error files are spooled. Jobs resume from here after a restart, so it must
+     * survive one: in a container it has to be on a volume.
+     */
+    private String directory = Paths.get("data", "coupon-imports").toString();
+    private int chunkSize = 1_000;
+    private int threads = 2;
+    /**
+     * Owner recorded on the jobs this node accepts. It must stay the same across restarts of the
+     * node and be unique among the nodes sharing the database.
+     */
+    private String nodeId = localHostName();
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return "localhost";
+        }
+    }
+
+}
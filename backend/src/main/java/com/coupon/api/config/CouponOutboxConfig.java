@@ -0,0 +1,169 @@
+package com.coupon.api.config;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponEventSink;
+import com.coupon.api.application.usecase.ReadCouponEventsUseCase;
+import com.coupon.api.application.usecase.RelayCouponEventsUseCase;
+import com.coupon.api.infrastructure.events.CouponChangeBus;
+import com.coupon.api.infrastructure.events.CouponEventLongPoll;
+import com.coupon.api.infrastructure.events.FileCouponEventSink;
+import com.coupon.api.infrastructure.events.InProcessCouponEventSink;
+import com.coupon.api.infrastructure.web.CouponChangeStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(CouponOutboxProperties.class)
+public class CouponOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "coupon.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+    public InProcessCouponEventSink inProcessCouponEventSink() {
+        return new InProcessCouponEventSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "coupon.outbox.sink", havingValue = "file")
+    public FileCouponEventSink fileCouponEventSink(CouponOutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileCouponEventSink(Paths.get(properties.getFile()), objectMapper);
+    }
+
+    @Bean
+    public RelayCouponEventsUseCase relayCouponEventsUseCase(CouponEventRepository couponEventRepository,
+                                                             CouponEventSink couponEventSink,
+                                                             CouponOutboxProperties properties) {
+        return new RelayCouponEventsUseCase(couponEventRepository, couponEventSink, properties.getBatchSize(),
+            properties.getMaxBatches());
+    }
+
+    @Bean
+    public ReadCouponEventsUseCase readCouponEventsUseCase(CouponEventRepository couponEventRepository) {
+        return new ReadCouponEventsUseCase(couponEventRepository);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService couponEventPollExecutor(CouponOutboxProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getPollThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "coupon-event-poll-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public CouponEventLongPoll couponEventLongPoll(ReadCouponEventsUseCase readCouponEventsUseCase,
+                                                   ExecutorService couponEventPollExecutor,
+                                                   CouponOutboxProperties properties) {
+        return new CouponEventLongPoll(readCouponEventsUseCase, couponEventPollExecutor,
+            properties.getMaxPollWait());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService couponChangeSendExecutor(CouponOutboxProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getChangesSendThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "coupon-change-send-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public CouponChangeBus couponChangeBus(CouponEventRepository couponEventRepository,
+                                           ExecutorService couponChangeSendExecutor,
+                                           CouponOutboxProperties properties) {
+        return new CouponChangeBus(couponEventRepository, properties.getChangesBufferSize(), couponChangeSendExecutor);
+    }
+
+    @Bean
+    public CouponChangeStream couponChangeStream(CouponChangeBus couponChangeBus, CouponOutboxProperties properties) {
+        return new CouponChangeStream(couponChangeBus, properties.getChangesTimeout());
+    }
+
+    /**
+     * Only parked long-polls on this node are woken by its relay; on nodes with the relay disabled
+     * they wait out their timeout and the consumer polls again.
+     */
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "coupon.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+    static class CouponOutboxRelay implements SchedulingConfigurer {
+
+        private static final Logger log = LoggerFactory.getLogger(CouponOutboxRelay.class);
+
+        private final RelayCouponEventsUseCase relayCouponEventsUseCase;
+        private final CouponEventLongPoll couponEventLongPoll;
+        private final CouponOutboxProperties properties;
+
+        CouponOutboxRelay(RelayCouponEventsUseCase relayCouponEventsUseCase, CouponEventLongPoll couponEventLongPoll,
+                          CouponOutboxProperties properties) {
+            this.relayCouponEventsUseCase = relayCouponEventsUseCase;
+            this.couponEventLongPoll = couponEventLongPoll;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            long interval = properties.getRelayInterval().toMillis();
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::relay, interval, interval));
+        }
+
+        private void relay() {
+            try {
+                if (relayCouponEventsUseCase.execute() > 0) {
+                    couponEventLongPoll.signal();
+                }
+            } catch (RuntimeException ex) {
+                log.error("Coupon event relay failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Runs on every node, relay or not, so each node's change streams carry the events relayed by
+     * any of them.
+     */
+    @Configuration
+    @EnableScheduling
+    static class CouponChangeTail implements SchedulingConfigurer {
+
+        private static final Logger log = LoggerFactory.getLogger(CouponChangeTail.class);
+
+        private final CouponChangeBus couponChangeBus;
+        private final CouponOutboxProperties properties;
+
+        CouponChangeTail(CouponChangeBus couponChangeBus, CouponOutboxProperties properties) {
+            this.couponChangeBus = couponChangeBus;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            long interval = properties.getChangesPollInterval().toMillis();
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::poll, interval, 0));
+        }
+
+        private void poll() {
+            try {
+                couponChangeBus.poll();
+            } catch (RuntimeException ex) {
+                log.error("Coupon change stream poll failed", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.outbox")
+public class CouponOutboxProperties {
+
+    private String sink = "in-process";
+    private String file = Paths.get(System.getProperty("java.io.tmpdir"), "coupon-events.ndjson").toString();
+    private boolean relayEnabled = true;
+    private Duration relayInterval = Duration.ofSeconds(1);
+    private int batchSize = 500;
+    private int maxBatches = 20;
+    private Duration maxPollWait = Duration.ofSeconds(30);
+    private int pollThreads = 2;
+    private int changesBufferSize = 256;
+    private int changesSendThreads = 4;
+    private Duration changesTimeout = Duration.ofMinutes(30);
+    private Duration changesPollInterval = Duration.ofSeconds(1);
+
+}
@@ -0,0 +1,46 @@
+package com.coupon.api.config;
+
+import com.coupon.api.application.usecase.CreateCouponUseCase;
+import com.coupon.api.application.usecase.DeleteCouponUseCase;
+import com.coupon.api.application.usecase.GetCouponByCodeUseCase;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
+import com.coupon.api.infrastructure.reactive.ReactiveCouponUseCases;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(CouponReactiveProperties.class)
+public class CouponReactiveConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService couponBlockingExecutor(CouponReactiveProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getBlockingThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "coupon-blocking-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public ReactiveCouponUseCases reactiveCouponUseCases(CreateCouponUseCase createCouponUseCase,
+                                                         GetCouponByIdUseCase getCouponByIdUseCase,
+                                                         GetCouponByCodeUseCase getCouponByCodeUseCase,
+                                                         RedeemCouponUseCase redeemCouponUseCase,
+                                                         DeleteCouponUseCase deleteCouponUseCase,
+                                                         ExecutorService couponBlockingExecutor,
+                                                         CouponReactiveProperties properties) {
+        Scheduler scheduler = Schedulers.fromExecutorService(couponBlockingExecutor);
+        return new ReactiveCouponUseCases(createCouponUseCase, getCouponByIdUseCase, getCouponByCodeUseCase,
+            redeemCouponUseCase, deleteCouponUseCase, scheduler, properties.getCheckConcurrency(),
+            properties.getMaxCheckCodes());
+    }
+}
@@ -0,0 +1,14 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.reactive")
+public class CouponReactiveProperties {
+
+    private int blockingThreads = 20;
+    private int checkConcurrency = 8;
+    private int maxCheckCodes = 100;
+
+}
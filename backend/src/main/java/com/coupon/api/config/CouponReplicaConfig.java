@@ -0,0 +1,59 @@
+package com.coupon.api.config;
+
+import com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter;
+import com.coupon.api.infrastructure.replica.ReplicaCouponRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableConfigurationProperties(CouponReplicaProperties.class)
+@ConditionalOnProperty(name = "coupon.replica.enabled", havingValue = "true")
+public class CouponReplicaConfig {
+
+    @Bean
+    public ReplicaCouponRepository replicaCouponRepository(CouponRepositoryAdapter couponRepositoryAdapter,
+                                                           CouponReplicaProperties properties) {
+        return new ReplicaCouponRepository(couponRepositoryAdapter, properties.getSnapshotPageSize());
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class CouponReplicaRefresh implements SchedulingConfigurer {
+
+        private static final Logger log = LoggerFactory.getLogger(CouponReplicaRefresh.class);
+
+        private final ReplicaCouponRepository replicaCouponRepository;
+        private final CouponReplicaProperties properties;
+
+        CouponReplicaRefresh(ReplicaCouponRepository replicaCouponRepository, CouponReplicaProperties properties) {
+            this.replicaCouponRepository = replicaCouponRepository;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            long interval = properties.getRefreshInterval().toMillis();
+            taskRegistrar.addFixedDelayTask(new IntervalTask(this::refresh, interval, 0));
+        }
+
+        private void refresh() {
+            try {
+                long startedAt = System.nanoTime();
+                int coupons = replicaCouponRepository.refresh();
+                log.info("Loaded {} coupons into the in-memory replica ({} ms, ~{} MB)",
+                    coupons, (System.nanoTime() - startedAt) / 1_000_000,
+                    replicaCouponRepository.estimatedBytes() / (1024 * 1024));
+            } catch (RuntimeException ex) {
+                log.error("Coupon replica refresh failed", ex);
+            }
+        }
+    }
+}
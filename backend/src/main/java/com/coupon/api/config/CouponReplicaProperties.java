@@ -0,0 +1,16 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.replica")
+public class CouponReplicaProperties {
+
+    private boolean enabled = false;
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    private int snapshotPageSize = 5_000;
+
+}
@@ -0,0 +1,42 @@
+package com.coupon.api.config;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.infrastructure.cache.CachingCouponRepository;
+import com.coupon.api.infrastructure.filter.CodeFilteringCouponRepository;
+import com.coupon.api.infrastructure.filter.CouponCodeFilter;
+import com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter;
+import com.coupon.api.infrastructure.replica.ReplicaCouponRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableConfigurationProperties(CouponCacheProperties.class)
+public class CouponRepositoryConfig {
+
+    @Bean
+    @ConditionalOnExpression("${coupon.cache.enabled:true} and !${coupon.replica.enabled:false}")
+    public CachingCouponRepository cachingCouponRepository(CouponRepositoryAdapter couponRepositoryAdapter,
+                                                           CouponCacheProperties properties) {
+        return new CachingCouponRepository(couponRepositoryAdapter, properties.getMaximumSize(), properties.getTtl());
+    }
+
+    /**
+     * The repository the use cases see: the in-memory replica or the id cache in front of the JPA
+     * adapter, whichever is enabled, with the code filter outermost.
+     */
+    @Bean
+    @Primary
+    public CouponRepository couponRepository(CouponRepositoryAdapter couponRepositoryAdapter,
+                                             ObjectProvider<ReplicaCouponRepository> replicaCouponRepository,
+                                             ObjectProvider<CachingCouponRepository> cachingCouponRepository,
+                                             ObjectProvider<CouponCodeFilter> couponCodeFilter) {
+        CouponRepository repository = replicaCouponRepository.getIfAvailable(
+            () -> cachingCouponRepository.getIfAvailable(() -> couponRepositoryAdapter));
+        CouponCodeFilter codeFilter = couponCodeFilter.getIfAvailable();
+        return codeFilter != null ? new CodeFilteringCouponRepository(repository, codeFilter) : repository;
+    }
+}
@@ -0,0 +1,13 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.response-cache")
+public class CouponResponseCacheProperties {
+
+    private boolean enabled = false;
+    private long maximumBytes = 64L * 1024 * 1024;
+
+}
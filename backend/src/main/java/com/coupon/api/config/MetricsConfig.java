@@ -0,0 +1,128 @@
+package com.coupon.api.config;
+
+import com.coupon.api.application.usecase.ExpireCouponsUseCase;
+import com.coupon.api.infrastructure.cache.CachingCouponRepository;
+import com.coupon.api.infrastructure.concurrency.ConnectionLimitingDataSource;
+import com.coupon.api.infrastructure.events.CouponChangeBus;
+import com.coupon.api.infrastructure.filter.CouponCodeFilter;
+import com.coupon.api.infrastructure.metrics.CouponMetricsAspect;
+import com.coupon.api.infrastructure.replica.ReplicaCouponRepository;
+import com.coupon.api.infrastructure.web.CouponJsonResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public CouponMetricsAspect couponMetricsAspect(MeterRegistry meterRegistry) {
+        return new CouponMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder couponCacheMetrics(ObjectProvider<CachingCouponRepository> cachingCouponRepository,
+                                          CouponJsonResponseCache couponJsonResponseCache) {
+        return registry -> {
+            CachingCouponRepository repository = cachingCouponRepository.getIfAvailable();
+            if (repository != null) {
+                CaffeineCacheMetrics.monitor(registry, repository.cache(), "coupons");
+            }
+            if (couponJsonResponseCache.isEnabled()) {
+                CaffeineCacheMetrics.monitor(registry, couponJsonResponseCache.cache(), "coupon-responses");
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder couponExpirationMetrics(ExpireCouponsUseCase expireCouponsUseCase) {
+        return registry -> {
+            FunctionCounter.builder("coupon.expiration.runs", expireCouponsUseCase, ExpireCouponsUseCase::totalRuns)
+                .description("Expiration sweeps executed")
+                .register(registry);
+            FunctionCounter.builder("coupon.expiration.expired", expireCouponsUseCase, ExpireCouponsUseCase::totalExpired)
+                .description("Coupons moved from ACTIVE to INACTIVE by the expiration sweep")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder couponChangeMetrics(CouponChangeBus couponChangeBus) {
+        return registry -> {
+            Gauge.builder("coupon.changes.subscribers", couponChangeBus, CouponChangeBus::subscribers)
+                .description("Clients connected to the coupon change stream")
+                .register(registry);
+            FunctionCounter.builder("coupon.changes.resyncs", couponChangeBus, CouponChangeBus::resyncs)
+                .description("Times a change subscriber fell behind and was told to resync")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder couponReplicaMetrics(ObjectProvider<ReplicaCouponRepository> replicaCouponRepository) {
+        return registry -> {
+            ReplicaCouponRepository repository = replicaCouponRepository.getIfAvailable();
+            if (repository != null) {
+                Gauge.builder("coupon.replica.size", repository, ReplicaCouponRepository::size)
+                    .description("Coupons held by the in-memory replica")
+                    .register(registry);
+                Gauge.builder("coupon.replica.memory", repository, ReplicaCouponRepository::estimatedBytes)
+                    .description("Estimated heap retained by the in-memory replica")
+                    .baseUnit("bytes")
+                    .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder couponCodeFilterMetrics(ObjectProvider<CouponCodeFilter> couponCodeFilter) {
+        return registry -> {
+            CouponCodeFilter codeFilter = couponCodeFilter.getIfAvailable();
+            if (codeFilter != null) {
+                FunctionCounter.builder("coupon.code.filter.negatives", codeFilter, CouponCodeFilter::negatives)
+                    .description("Code lookups answered as absent without querying the database")
+                    .register(registry);
+                FunctionCounter.builder("coupon.code.filter.false.positives", codeFilter, CouponCodeFilter::falsePositives)
+                    .description("Code lookups the filter let through for codes that do not exist")
+                    .register(registry);
+                FunctionCounter.builder("coupon.code.filter.rebuilds", codeFilter, CouponCodeFilter::rebuilds)
+                    .description("Code filter rebuilds from the coupons table")
+                    .register(registry);
+                Gauge.builder("coupon.code.filter.false.positive.rate", codeFilter,
+                        CouponCodeFilter::expectedFalsePositiveRate)
+                    .description("False-positive probability estimated from the share of bits set")
+                    .register(registry);
+                Gauge.builder("coupon.code.filter.observed.false.positive.rate", codeFilter,
+                        CouponCodeFilter::observedFalsePositiveRate)
+                    .description("Share of lookups for absent codes that reached the database")
+                    .register(registry);
+                Gauge.builder("coupon.code.filter.insertions", codeFilter, CouponCodeFilter::insertions)
+                    .description("Codes added to the current filter")
+                    .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            DataSource source = dataSource.getIfAvailable();
+            if (source instanceof ConnectionLimitingDataSource) {
+                ConnectionLimitingDataSource limiter = (ConnectionLimitingDataSource) source;
+                Gauge.builder("coupon.jdbc.permits.available", limiter, ConnectionLimitingDataSource::availablePermits)
+                    .description("Connection permits free in virtual-thread mode")
+                    .register(registry);
+                Gauge.builder("coupon.jdbc.permits.waiting", limiter, ConnectionLimitingDataSource::queueLength)
+                    .description("Threads queued for a connection permit in virtual-thread mode")
+                    .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.coupon.api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.Collections;
+import java.util.List;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * Every {@link SchedulingConfigurer} registers into the same registrar, which falls back to a
+     * single shared thread when no scheduler is defined. Each of them registers one fixed-delay job,
+     * so sizing the pool to their count gives every job its own thread and a long expiration sweep or
+     * replica refresh can no longer hold up the outbox relay.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ObjectProvider<List<SchedulingConfigurer>> schedulingConfigurers) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, schedulingConfigurers.getIfAvailable(Collections::emptyList).size()));
+        scheduler.setThreadNamePrefix("coupon-scheduler-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
@@ -1,9 +1,17 @@
 package com.coupon.api.config;
 
+import com.coupon.api.application.port.CouponEventRepository;
 import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.application.usecase.BulkDeleteCouponsUseCase;
+import com.coupon.api.application.usecase.CreateCouponBatchUseCase;
 import com.coupon.api.application.usecase.CreateCouponUseCase;
 import com.coupon.api.application.usecase.DeleteCouponUseCase;
+import com.coupon.api.application.usecase.ExportCouponsUseCase;
+import com.coupon.api.application.usecase.GetCouponByCodeUseCase;
 import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.application.usecase.ListCouponsUseCase;
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,8 +19,17 @@ import org.springframework.context.annotation.Configuration;
 public class UseCaseConfig {
 
     @Bean
-    public CreateCouponUseCase createCouponUseCase(CouponRepository couponRepository) {
-        return new CreateCouponUseCase(couponRepository);
+    public CreateCouponUseCase createCouponUseCase(CouponRepository couponRepository,
+                                                   CouponEventRepository couponEventRepository,
+                                                   UnitOfWork unitOfWork) {
+        return new CreateCouponUseCase(couponRepository, couponEventRepository, unitOfWork);
+    }
+
+    @Bean
+    public CreateCouponBatchUseCase createCouponBatchUseCase(CouponRepository couponRepository,
+                                                             CouponEventRepository couponEventRepository,
+                                                             UnitOfWork unitOfWork) {
+        return new CreateCouponBatchUseCase(couponRepository, couponEventRepository, unitOfWork);
     }
 
     @Bean
@@ -21,7 +38,38 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public DeleteCouponUseCase deleteCouponUseCase(CouponRepository couponRepository) {
-        return new DeleteCouponUseCase(couponRepository);
+    public DeleteCouponUseCase deleteCouponUseCase(CouponRepository couponRepository,
+                                                   CouponEventRepository couponEventRepository,
+                                                   UnitOfWork unitOfWork) {
+        return new DeleteCouponUseCase(couponRepository, couponEventRepository, unitOfWork);
+    }
+
+    @Bean
+    public BulkDeleteCouponsUseCase bulkDeleteCouponsUseCase(CouponRepository couponRepository,
+                                                             CouponEventRepository couponEventRepository,
+                                                             UnitOfWork unitOfWork) {
+        return new BulkDeleteCouponsUseCase(couponRepository, couponEventRepository, unitOfWork);
+    }
+
+    @Bean
+    public GetCouponByCodeUseCase getCouponByCodeUseCase(CouponRepository couponRepository) {
+        return new GetCouponByCodeUseCase(couponRepository);
+    }
+
+    @Bean
+    public RedeemCouponUseCase redeemCouponUseCase(CouponRepository couponRepository,
+                                                   CouponEventRepository couponEventRepository,
+                                                   UnitOfWork unitOfWork) {
+        return new RedeemCouponUseCase(couponRepository, couponEventRepository, unitOfWork);
+    }
+
+    @Bean
+    public ListCouponsUseCase listCouponsUseCase(CouponRepository couponRepository) {
+        return new ListCouponsUseCase(couponRepository);
+    }
+
+    @Bean
+    public ExportCouponsUseCase exportCouponsUseCase(CouponRepository couponRepository) {
+        return new ExportCouponsUseCase(couponRepository);
     }
 }
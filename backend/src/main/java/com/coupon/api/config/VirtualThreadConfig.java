@@ -0,0 +1,71 @@
+package com.coupon.api.config;
+
+import com.coupon.api.infrastructure.concurrency.ConnectionLimitingDataSource;
+import com.coupon.api.infrastructure.concurrency.VirtualThreads;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs Tomcat request processing, and with it every use case, on one virtual thread per request
+ * instead of the platform-thread pool, and puts a FIFO permit queue in front of the connection pool.
+ * Requires running on Java 21 or newer; the application itself still compiles for Java 8.
+ */
+@Configuration
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+@ConditionalOnProperty(name = "coupon.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("coupon-vt-");
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer() {
+        return factory -> factory.addConnectorCustomizers(connector ->
+            ((AbstractProtocol<?>) connector.getProtocolHandler()).setExecutor(virtualThreadExecutor()));
+    }
+
+    /**
+     * Streaming exports run on the MVC async executor, which would otherwise be a small thread pool.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new ConcurrentTaskExecutor(virtualThreadExecutor()));
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                VirtualThreadProperties properties = Binder.get(environment)
+                    .bind("coupon.virtual-threads", VirtualThreadProperties.class)
+                    .orElseGet(VirtualThreadProperties::new);
+                int permits = properties.getJdbcPermits();
+                if (permits <= 0) {
+                    permits = bean instanceof HikariDataSource ? ((HikariDataSource) bean).getMaximumPoolSize() : 10;
+                }
+                return new ConnectionLimitingDataSource((DataSource) bean, permits, properties.getJdbcAcquireTimeout());
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.coupon.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "coupon.virtual-threads")
+public class VirtualThreadProperties {
+
+    private boolean enabled = false;
+    /**
+     * Connections handed out at once; 0 uses the Hikari maximum pool size.
+     */
+    private int jdbcPermits = 0;
+    private Duration jdbcAcquireTimeout = Duration.ofSeconds(30);
+
+}
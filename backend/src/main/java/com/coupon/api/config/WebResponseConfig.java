@@ -0,0 +1,24 @@
+package com.coupon.api.config;
+
+import com.coupon.api.infrastructure.web.CouponExportWriter;
+import com.coupon.api.infrastructure.web.CouponJsonResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CouponResponseCacheProperties.class)
+public class WebResponseConfig {
+
+    @Bean
+    public CouponJsonResponseCache couponJsonResponseCache(ObjectMapper objectMapper,
+                                                           CouponResponseCacheProperties properties) {
+        return new CouponJsonResponseCache(objectMapper, properties.isEnabled(), properties.getMaximumBytes());
+    }
+
+    @Bean
+    public CouponExportWriter couponExportWriter(ObjectMapper objectMapper) {
+        return new CouponExportWriter(objectMapper);
+    }
+}
@@ -1,19 +1,43 @@
 package com.coupon.api.controller;
 
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.application.usecase.BulkDeleteCouponsUseCase;
+import com.coupon.api.application.usecase.CreateCouponBatchUseCase;
 import com.coupon.api.application.usecase.CreateCouponUseCase;
 import com.coupon.api.application.usecase.DeleteCouponUseCase;
+import com.coupon.api.application.usecase.ExportCouponsUseCase;
+import com.coupon.api.application.usecase.GetCouponByCodeUseCase;
 import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.application.usecase.ListCouponsUseCase;
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponBulkDeleteRequestDTO;
+import com.coupon.api.dto.CouponBulkDeleteResponseDTO;
+import com.coupon.api.dto.CouponPageDTO;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.infrastructure.web.CouponChangeStream;
+import com.coupon.api.infrastructure.web.CouponExportFormat;
+import com.coupon.api.infrastructure.web.CouponExportWriter;
+import com.coupon.api.infrastructure.web.CouponJsonResponseCache;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -23,15 +47,42 @@ import java.util.UUID;
 public class CouponController {
 
     private final CreateCouponUseCase createCouponUseCase;
+    private final CreateCouponBatchUseCase createCouponBatchUseCase;
     private final GetCouponByIdUseCase getCouponByIdUseCase;
+    private final GetCouponByCodeUseCase getCouponByCodeUseCase;
+    private final RedeemCouponUseCase redeemCouponUseCase;
+    private final ListCouponsUseCase listCouponsUseCase;
+    private final ExportCouponsUseCase exportCouponsUseCase;
     private final DeleteCouponUseCase deleteCouponUseCase;
+    private final BulkDeleteCouponsUseCase bulkDeleteCouponsUseCase;
+    private final CouponJsonResponseCache couponJsonResponseCache;
+    private final CouponExportWriter couponExportWriter;
+    private final CouponChangeStream couponChangeStream;
 
     public CouponController(CreateCouponUseCase createCouponUseCase,
+                           CreateCouponBatchUseCase createCouponBatchUseCase,
                            GetCouponByIdUseCase getCouponByIdUseCase,
-                           DeleteCouponUseCase deleteCouponUseCase) {
+                           GetCouponByCodeUseCase getCouponByCodeUseCase,
+                           RedeemCouponUseCase redeemCouponUseCase,
+                           ListCouponsUseCase listCouponsUseCase,
+                           ExportCouponsUseCase exportCouponsUseCase,
+                           DeleteCouponUseCase deleteCouponUseCase,
+                           BulkDeleteCouponsUseCase bulkDeleteCouponsUseCase,
+                           CouponJsonResponseCache couponJsonResponseCache,
+                           CouponExportWriter couponExportWriter,
+                           CouponChangeStream couponChangeStream) {
         this.createCouponUseCase = createCouponUseCase;
+        this.createCouponBatchUseCase = createCouponBatchUseCase;
         this.getCouponByIdUseCase = getCouponByIdUseCase;
+        this.getCouponByCodeUseCase = getCouponByCodeUseCase;
+        this.redeemCouponUseCase = redeemCouponUseCase;
+        this.listCouponsUseCase = listCouponsUseCase;
+        this.exportCouponsUseCase = exportCouponsUseCase;
         this.deleteCouponUseCase = deleteCouponUseCase;
+        this.bulkDeleteCouponsUseCase = bulkDeleteCouponsUseCase;
+        this.couponJsonResponseCache = couponJsonResponseCache;
+        this.couponExportWriter = couponExportWriter;
+        this.couponChangeStream = couponChangeStream;
     }
 
     @PostMapping
@@ -39,6 +90,7 @@ public class CouponController {
     @ApiResponses(value = {
             @ApiResponse(code = 201, message = "Coupon created successfully"),
             @ApiResponse(code = 400, message = "Invalid request data"),
+            @ApiResponse(code = 409, message = "Coupon code already exists"),
             @ApiResponse(code = 422, message = "Validation failed")
     })
     public ResponseEntity<CouponResponseDTO> createCoupon(@Valid @RequestBody CouponRequestDTO requestDTO) {
@@ -46,17 +98,110 @@ public class CouponController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @ApiOperation(value = "Create coupons in batch", response = CouponBatchResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Batch processed, see per-item errors"),
+            @ApiResponse(code = 400, message = "Invalid request data"),
+            @ApiResponse(code = 422, message = "Empty or oversized batch")
+    })
+    public ResponseEntity<CouponBatchResponseDTO> createCouponBatch(@RequestBody List<CouponRequestDTO> requestDTOs) {
+        CouponBatchResponseDTO response = createCouponBatchUseCase.execute(requestDTOs);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    @ApiOperation(value = "List coupons, newest first, with cursor pagination", response = CouponPageDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Page of coupons"),
+            @ApiResponse(code = 422, message = "Invalid cursor or limit")
+    })
+    public ResponseEntity<CouponPageDTO> listCoupons(
+            @RequestParam(required = false) CouponStatus status,
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) Boolean redeemed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CouponFilter filter = CouponFilter.builder()
+                .status(status)
+                .published(published)
+                .redeemed(redeemed)
+                .expiresFrom(expiresFrom)
+                .expiresTo(expiresTo)
+                .build();
+        CouponPageDTO response = listCouponsUseCase.execute(filter, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    @ApiOperation(value = "Export all coupons as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupons streamed"),
+            @ApiResponse(code = 422, message = "Unsupported format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportCoupons(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        CouponExportFormat exportFormat = CouponExportFormat.from(format);
+        StreamingResponseBody body = out -> couponExportWriter.write(exportFormat, out, exportCouponsUseCase::execute);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"coupons." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "Stream coupon changes as server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "change events, and resync when this client fell behind")
+    })
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return couponChangeStream.open(lastEventId);
+    }
+
     @GetMapping("/{id}")
     @ApiOperation(value = "Get coupon by ID", response = CouponResponseDTO.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Coupon found"),
             @ApiResponse(code = 404, message = "Coupon not found")
     })
-    public ResponseEntity<CouponResponseDTO> getCouponById(@PathVariable UUID id) {
+    public ResponseEntity<?> getCouponById(@PathVariable UUID id) {
+        if (couponJsonResponseCache.isEnabled()) {
+            CouponView coupon = getCouponByIdUseCase.findView(id);
+            byte[] body = couponJsonResponseCache.get(coupon, getCouponByIdUseCase::toResponse);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(body);
+        }
+
         CouponResponseDTO response = getCouponByIdUseCase.execute(id);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/code/{code}")
+    @ApiOperation(value = "Get coupon by code", response = CouponResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupon found"),
+            @ApiResponse(code = 404, message = "Coupon not found"),
+            @ApiResponse(code = 422, message = "Invalid code")
+    })
+    public ResponseEntity<CouponResponseDTO> getCouponByCode(@PathVariable String code) {
+        CouponResponseDTO response = getCouponByCodeUseCase.execute(code);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/code/{code}/redeem")
+    @ApiOperation(value = "Redeem a coupon by code", response = CouponResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupon redeemed successfully"),
+            @ApiResponse(code = 404, message = "Coupon not found"),
+            @ApiResponse(code = 400, message = "Coupon already redeemed"),
+            @ApiResponse(code = 422, message = "Coupon expired or not active")
+    })
+    public ResponseEntity<CouponResponseDTO> redeemCoupon(@PathVariable String code) {
+        CouponResponseDTO response = redeemCouponUseCase.execute(code);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @ApiOperation(value = "Delete a coupon (soft delete)")
     @ApiResponses(value = {
@@ -69,4 +214,16 @@ public class CouponController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk-delete")
+    @ApiOperation(value = "Soft delete coupons by id list or by filter (code prefix, expiration range, published)",
+            response = CouponBulkDeleteResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Deleted, already deleted and not found counts"),
+            @ApiResponse(code = 422, message = "Missing, mixed or oversized criteria")
+    })
+    public ResponseEntity<CouponBulkDeleteResponseDTO> bulkDeleteCoupons(@RequestBody CouponBulkDeleteRequestDTO requestDTO) {
+        CouponBulkDeleteResponseDTO response = bulkDeleteCouponsUseCase.execute(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
 }
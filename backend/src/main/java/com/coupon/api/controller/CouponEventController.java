@@ -0,0 +1,38 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.dto.CouponEventPageDTO;
+import com.coupon.api.infrastructure.events.CouponEventLongPoll;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/coupon/events")
+@Api(tags = "Eventos de cupons", description = "Acompanhar criação, resgate e exclusão de cupons a partir de um cursor.")
+@CrossOrigin(origins = "*")
+public class CouponEventController {
+
+    private final CouponEventLongPoll couponEventLongPoll;
+
+    public CouponEventController(CouponEventLongPoll couponEventLongPoll) {
+        this.couponEventLongPoll = couponEventLongPoll;
+    }
+
+    @GetMapping
+    @ApiOperation(value = "Long-poll the coupon events after a cursor", response = CouponEventPageDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Events after the cursor, or an empty page when the wait ran out"),
+            @ApiResponse(code = 422, message = "Invalid cursor or limit")
+    })
+    public DeferredResult<CouponEventPageDTO> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "30") long waitSeconds) {
+        return couponEventLongPoll.poll(after, limit, Duration.ofSeconds(waitSeconds));
+    }
+}
@@ -0,0 +1,34 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.application.usecase.ExpireCouponsUseCase;
+import com.coupon.api.dto.CouponExpirationRunDTO;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/coupon/expiration")
+@Api(tags = "Expiração de cupons", description = "Acompanhar a rotina que inativa cupons expirados.")
+@CrossOrigin(origins = "*")
+public class CouponExpirationController {
+
+    private final ExpireCouponsUseCase expireCouponsUseCase;
+
+    public CouponExpirationController(ExpireCouponsUseCase expireCouponsUseCase) {
+        this.expireCouponsUseCase = expireCouponsUseCase;
+    }
+
+    @GetMapping
+    @ApiOperation(value = "Get the last expiration sweep and running totals", response = CouponExpirationRunDTO.class)
+    public ResponseEntity<CouponExpirationRunDTO> getLastRun() {
+        CouponExpirationRunDTO lastRun = expireCouponsUseCase.lastRun();
+        if (lastRun == null) {
+            lastRun = CouponExpirationRunDTO.builder()
+                    .totalRuns(expireCouponsUseCase.totalRuns())
+                    .totalExpired(expireCouponsUseCase.totalExpired())
+                    .build();
+        }
+        return ResponseEntity.ok(lastRun);
+    }
+}
@@ -0,0 +1,75 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.application.usecase.ImportCouponsUseCase;
+import com.coupon.api.domain.CouponImportFormat;
+import com.coupon.api.dto.CouponImportJobDTO;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/coupon/import")
+@Api(tags = "Importação de cupons", description = "Importar cupons em massa a partir de arquivos CSV ou NDJSON.")
+@CrossOrigin(origins = "*")
+public class CouponImportController {
+
+    private final ImportCouponsUseCase importCouponsUseCase;
+
+    public CouponImportController(ImportCouponsUseCase importCouponsUseCase) {
+        this.importCouponsUseCase = importCouponsUseCase;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ApiOperation(value = "Upload a CSV or NDJSON file and start an import job", response = CouponImportJobDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Import job accepted"),
+            @ApiResponse(code = 422, message = "Unsupported format")
+    })
+    public ResponseEntity<CouponImportJobDTO> importCoupons(@RequestParam("file") MultipartFile file,
+                                                            @RequestParam(required = false) String format)
+            throws IOException {
+        CouponImportFormat importFormat = CouponImportFormat.from(format != null ? format : extension(file));
+        CouponImportJobDTO response = importCouponsUseCase.start(importFormat, file.getInputStream());
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{id}")
+    @ApiOperation(value = "Get import job progress", response = CouponImportJobDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Import job found"),
+            @ApiResponse(code = 404, message = "Import job not found")
+    })
+    public ResponseEntity<CouponImportJobDTO> getImportJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(importCouponsUseCase.getJob(id));
+    }
+
+    @GetMapping("/{id}/errors")
+    @ApiOperation(value = "Download the per-row error file of an import job")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Error file"),
+            @ApiResponse(code = 404, message = "Import job not found")
+    })
+    public ResponseEntity<InputStreamResource> getImportErrors(@PathVariable UUID id) throws IOException {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + id + "-errors.csv\"")
+                .body(new InputStreamResource(importCouponsUseCase.readErrors(id)));
+    }
+
+    private static String extension(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        int dot = name != null ? name.lastIndexOf('.') : -1;
+        return dot >= 0 ? name.substring(dot + 1) : "";
+    }
+}
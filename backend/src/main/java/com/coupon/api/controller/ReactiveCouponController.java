@@ -0,0 +1,100 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.infrastructure.reactive.ReactiveCouponUseCases;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/reactive/coupon")
+@Api(tags = "Cupons (reativo)", description = "Mesmas operações de cupons com respostas assíncronas, sem prender a thread da requisição.")
+@CrossOrigin(origins = "*")
+public class ReactiveCouponController {
+
+    private final ReactiveCouponUseCases reactiveCouponUseCases;
+
+    public ReactiveCouponController(ReactiveCouponUseCases reactiveCouponUseCases) {
+        this.reactiveCouponUseCases = reactiveCouponUseCases;
+    }
+
+    @PostMapping
+    @ApiOperation(value = "Create a new coupon", response = CouponResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Coupon created successfully"),
+            @ApiResponse(code = 409, message = "Coupon code already exists"),
+            @ApiResponse(code = 422, message = "Validation failed")
+    })
+    public Mono<ResponseEntity<CouponResponseDTO>> createCoupon(@Valid @RequestBody CouponRequestDTO requestDTO) {
+        return reactiveCouponUseCases.create(requestDTO)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+
+    @GetMapping("/{id}")
+    @ApiOperation(value = "Get coupon by ID", response = CouponResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupon found"),
+            @ApiResponse(code = 404, message = "Coupon not found")
+    })
+    public Mono<CouponResponseDTO> getCouponById(@PathVariable UUID id) {
+        return reactiveCouponUseCases.findById(id);
+    }
+
+    @GetMapping("/code/{code}")
+    @ApiOperation(value = "Get coupon by code", response = CouponResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupon found"),
+            @ApiResponse(code = 404, message = "Coupon not found"),
+            @ApiResponse(code = 422, message = "Invalid code")
+    })
+    public Mono<CouponResponseDTO> getCouponByCode(@PathVariable String code) {
+        return reactiveCouponUseCases.findByCode(code);
+    }
+
+    @PostMapping("/check")
+    @ApiOperation(value = "Look up several codes at once, returning the coupons found", response = CouponResponseDTO.class,
+            responseContainer = "List")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupons found, in request order"),
+            @ApiResponse(code = 422, message = "Empty or oversized list of codes")
+    })
+    public Flux<CouponResponseDTO> checkCoupons(@RequestBody List<String> codes) {
+        return reactiveCouponUseCases.check(codes);
+    }
+
+    @PostMapping("/code/{code}/redeem")
+    @ApiOperation(value = "Redeem a coupon by code", response = CouponResponseDTO.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Coupon redeemed successfully"),
+            @ApiResponse(code = 404, message = "Coupon not found"),
+            @ApiResponse(code = 400, message = "Coupon already redeemed"),
+            @ApiResponse(code = 422, message = "Coupon expired or not active")
+    })
+    public Mono<CouponResponseDTO> redeemCoupon(@PathVariable String code) {
+        return reactiveCouponUseCases.redeem(code);
+    }
+
+    @DeleteMapping("/{id}")
+    @ApiOperation(value = "Delete a coupon (soft delete)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Coupon deleted successfully"),
+            @ApiResponse(code = 404, message = "Coupon not found"),
+            @ApiResponse(code = 400, message = "Coupon already deleted")
+    })
+    public Mono<ResponseEntity<Void>> deleteCoupon(@PathVariable UUID id) {
+        return reactiveCouponUseCases.delete(id)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+}
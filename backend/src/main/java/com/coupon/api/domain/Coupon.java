@@ -1,10 +1,13 @@
 package com.coupon.api.domain;
 
 import com.coupon.api.exception.CouponAlreadyDeletedException;
+import com.coupon.api.exception.CouponAlreadyRedeemedException;
 import com.coupon.api.exception.InvalidCouponException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
 
@@ -14,21 +17,42 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons",
+        indexes = {
+                @Index(name = "idx_coupons_code_key", columnList = "code_key"),
+                @Index(name = "idx_coupons_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_coupons_status_created_at_id", columnList = "status, created_at, id"),
+                @Index(name = "idx_coupons_status_expiration_date", columnList = "status, expiration_date"),
+                @Index(name = "idx_coupons_published_created_at_id", columnList = "published, created_at, id"),
+                @Index(name = "idx_coupons_redeemed_created_at_id", columnList = "redeemed, created_at, id"),
+                @Index(name = "idx_coupons_expiration_date_created_at_id", columnList = "expiration_date, created_at, id")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupons_active_code", columnNames = "active_code_key"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Where(clause = "status != 'DELETED'")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "coupon")
 public class Coupon {
 
+    private static final int CODE_LENGTH = 6;
+    private static final BigDecimal MIN_DISCOUNT_VALUE = new BigDecimal("0.5");
+
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID", strategy = "com.coupon.api.infrastructure.persistence.TimeOrderedUuidGenerator")
     @Column(updatable = false, nullable = false)
     private UUID id;
 
     @Column(nullable = false, length = 6)
     private String code;
 
+    @Column(name = "code_key", nullable = false, updatable = false)
+    private CouponCode codeKey;
+
+    @Column(name = "active_code_key")
+    private CouponCode activeCodeKey;
+
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
@@ -56,15 +80,18 @@ public class Coupon {
 
     private Coupon(String code, String description, BigDecimal discountValue, 
                    LocalDateTime expirationDate, Boolean published) {
+        LocalDateTime now = LocalDateTime.now();
         this.code = sanitizeAndValidateCode(code);
+        this.codeKey = CouponCode.of(this.code);
+        this.activeCodeKey = this.codeKey;
         this.description = validateDescription(description);
         this.discountValue = validateDiscountValue(discountValue);
-        this.expirationDate = validateExpirationDate(expirationDate);
+        this.expirationDate = validateExpirationDate(expirationDate, now);
         this.status = CouponStatus.ACTIVE;
         this.published = published != null ? published : false;
         this.redeemed = false;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
     }
 
     public static Coupon create(String code, String description, BigDecimal discountValue,
@@ -72,14 +99,66 @@ public class Coupon {
         return new Coupon(code, description, discountValue, expirationDate, published);
     }
 
+    /**
+     * Rebuilds a coupon that was already persisted, without re-applying the creation rules (an
+     * expiration date in the past is valid for a stored coupon).
+     */
+    public static Coupon restore(UUID id, String code, String description, BigDecimal discountValue,
+                                 LocalDateTime expirationDate, CouponStatus status, Boolean published,
+                                 Boolean redeemed, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Coupon coupon = new Coupon();
+        coupon.id = id;
+        coupon.code = code;
+        coupon.codeKey = CouponCode.of(code);
+        coupon.activeCodeKey = status == CouponStatus.DELETED ? null : coupon.codeKey;
+        coupon.description = description;
+        coupon.discountValue = discountValue;
+        coupon.expirationDate = expirationDate;
+        coupon.status = status;
+        coupon.published = published;
+        coupon.redeemed = redeemed;
+        coupon.createdAt = createdAt;
+        coupon.updatedAt = updatedAt;
+        return coupon;
+    }
+
     public void delete() {
         if (this.status == CouponStatus.DELETED) {
             throw new CouponAlreadyDeletedException("Coupon is already deleted");
         }
         this.status = CouponStatus.DELETED;
+        this.activeCodeKey = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void redeem() {
+        ensureRedeemable();
+        this.redeemed = true;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Throws the reason this coupon cannot be redeemed, without changing it.
+     */
+    public void ensureRedeemable() {
+        if (this.status != CouponStatus.ACTIVE) {
+            throw new InvalidCouponException("Coupon is not active");
+        }
+        if (isExpired()) {
+            throw new InvalidCouponException("Coupon is expired");
+        }
+        if (Boolean.TRUE.equals(this.redeemed)) {
+            throw new CouponAlreadyRedeemedException("Coupon is already redeemed");
+        }
+    }
+
+    public void expire(LocalDateTime now) {
+        if (this.status == CouponStatus.ACTIVE && this.expirationDate.isBefore(now)) {
+            this.status = CouponStatus.INACTIVE;
+            this.updatedAt = now;
+        }
+    }
+
     public boolean isExpired() {
         return this.expirationDate != null && this.expirationDate.isBefore(LocalDateTime.now());
     }
@@ -88,22 +167,64 @@ public class Coupon {
         return this.status == CouponStatus.DELETED;
     }
 
-    private String sanitizeAndValidateCode(String code) {
-        if (code == null || code.trim().isEmpty()) {
+    /**
+     * Strips everything but ASCII letters and digits in a single pass. A code that is already clean
+     * is returned as is, so lookups with well-formed codes allocate nothing.
+     */
+    public static String sanitizeAndValidateCode(String code) {
+        if (code == null) {
             throw new InvalidCouponException("Code is required");
         }
 
-        String sanitized = code.replaceAll("[^a-zA-Z0-9]", "");
+        int length = code.length();
+        int alphanumerics = 0;
+        boolean blank = true;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (isAlphanumeric(c)) {
+                alphanumerics++;
+            }
+            if (c > ' ') {
+                blank = false;
+            }
+        }
 
-        if (sanitized.length() != 6) {
+        if (blank) {
+            throw new InvalidCouponException("Code is required");
+        }
+        if (alphanumerics != CODE_LENGTH) {
             throw new InvalidCouponException("Code must have exactly 6 alphanumeric characters.");
         }
+        if (length == CODE_LENGTH) {
+            return code;
+        }
 
-        return sanitized;
+        char[] sanitized = new char[CODE_LENGTH];
+        int next = 0;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (isAlphanumeric(c)) {
+                sanitized[next++] = c;
+            }
+        }
+        return new String(sanitized);
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
     private String validateDescription(String description) {
-        if (description == null || description.trim().isEmpty()) {
+        if (description == null || isBlank(description)) {
             throw new InvalidCouponException("Description is required");
         }
         return description;
@@ -113,17 +234,17 @@ public class Coupon {
         if (discountValue == null) {
             throw new InvalidCouponException("Discount value is required");
         }
-        if (discountValue.compareTo(new BigDecimal("0.5")) < 0) {
+        if (discountValue.compareTo(MIN_DISCOUNT_VALUE) < 0) {
             throw new InvalidCouponException("Discount value must be at least 0.5");
         }
         return discountValue;
     }
 
-    private LocalDateTime validateExpirationDate(LocalDateTime expirationDate) {
+    private LocalDateTime validateExpirationDate(LocalDateTime expirationDate, LocalDateTime now) {
         if (expirationDate == null) {
             throw new InvalidCouponException("Expiration date is required");
         }
-        if (expirationDate.isBefore(LocalDateTime.now())) {
+        if (expirationDate.isBefore(now)) {
             throw new InvalidCouponException("Expiration date cannot be in the past");
         }
         return expirationDate;
@@ -0,0 +1,112 @@
+package com.coupon.api.domain;
+
+import com.coupon.api.exception.InvalidCouponException;
+
+import java.io.Serializable;
+
+/**
+ * A sanitized coupon code packed into a {@code long} as six base-62 digits ({@code 0-9}, {@code A-Z},
+ * {@code a-z}). Six digits need 36 bits, so the key fits a BIGINT column, equality and hashing are a
+ * single primitive comparison, and the numeric order of keys matches the ASCII order of the codes.
+ */
+public final class CouponCode implements Comparable<CouponCode>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = 62;
+    private static final int LENGTH = 6;
+    private static final long MAX_VALUE = 56_800_235_583L;
+
+    private final long value;
+
+    private CouponCode(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Sanitizes and validates the code with the same rules as {@link Coupon} before packing it.
+     */
+    public static CouponCode of(String code) {
+        String sanitized = Coupon.sanitizeAndValidateCode(code);
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            value = value * BASE + digit(sanitized.charAt(i));
+        }
+        return new CouponCode(value);
+    }
+
+    /**
+     * The smallest code starting with {@code prefix}. Together with {@link #highestWithPrefix(String)}
+     * it turns a prefix match into a range over keys.
+     */
+    public static CouponCode lowestWithPrefix(String prefix) {
+        return of(pad(prefix, ALPHABET.charAt(0)));
+    }
+
+    public static CouponCode highestWithPrefix(String prefix) {
+        return of(pad(prefix, ALPHABET.charAt(BASE - 1)));
+    }
+
+    public static CouponCode fromLong(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Not a coupon code key: " + value);
+        }
+        return new CouponCode(value);
+    }
+
+    public long toLong() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(CouponCode other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CouponCode && ((CouponCode) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[LENGTH];
+        long remaining = value;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (remaining % BASE));
+            remaining /= BASE;
+        }
+        return new String(chars);
+    }
+
+    private static String pad(String prefix, char filler) {
+        if (prefix == null || prefix.isEmpty() || prefix.length() > LENGTH) {
+            throw new InvalidCouponException("Code prefix must have between 1 and 6 alphanumeric characters");
+        }
+        char[] chars = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            char c = i < prefix.length() ? prefix.charAt(i) : filler;
+            if (ALPHABET.indexOf(c) < 0) {
+                throw new InvalidCouponException("Code prefix must have between 1 and 6 alphanumeric characters");
+            }
+            chars[i] = c;
+        }
+        return new String(chars);
+    }
+
+    private static int digit(char c) {
+        if (c <= '9') {
+            return c - '0';
+        }
+        if (c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return c - 'a' + 36;
+    }
+}
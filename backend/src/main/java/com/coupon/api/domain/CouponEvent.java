@@ -0,0 +1,87 @@
+package com.coupon.api.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of the coupon outbox, written in the same transaction as the change it describes. The
+ * relay publishes unpublished rows in id order and then stamps each with its stream position, the
+ * gap-free sequence consumers page through; the id alone can commit out of order. Set-based
+ * operations that change many coupons at once append a single {@link CouponEventType#BULK_CHANGED}
+ * event without a coupon, telling consumers to discard what they cached.
+ */
+@Entity
+@Table(name = "coupon_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_events_stream_position", columnNames = "stream_position"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column(updatable = false)
+    private UUID couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private CouponEventType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, updatable = false)
+    private CouponStatus couponStatus;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "stream_position")
+    private Long streamPosition;
+
+    private LocalDateTime publishedAt;
+
+    private CouponEvent(UUID couponId, CouponEventType type, CouponStatus couponStatus, LocalDateTime occurredAt) {
+        this.couponId = couponId;
+        this.type = type;
+        this.couponStatus = couponStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    public static CouponEvent created(Coupon coupon) {
+        return new CouponEvent(coupon.getId(), CouponEventType.CREATED, coupon.getStatus(), coupon.getUpdatedAt());
+    }
+
+    public static CouponEvent redeemed(Coupon coupon) {
+        return new CouponEvent(coupon.getId(), CouponEventType.REDEEMED, coupon.getStatus(), coupon.getUpdatedAt());
+    }
+
+    public static CouponEvent deleted(UUID couponId, LocalDateTime deletedAt) {
+        return new CouponEvent(couponId, CouponEventType.DELETED, CouponStatus.DELETED, deletedAt);
+    }
+
+    public static CouponEvent bulkChanged(LocalDateTime occurredAt) {
+        return new CouponEvent(null, CouponEventType.BULK_CHANGED, null, occurredAt);
+    }
+
+    /**
+     * Rebuilds an event read back from the outbox.
+     */
+    public static CouponEvent restore(Long id, UUID couponId, CouponEventType type, CouponStatus couponStatus,
+                                      LocalDateTime occurredAt, Long streamPosition, LocalDateTime publishedAt) {
+        CouponEvent event = new CouponEvent(couponId, type, couponStatus, occurredAt);
+        event.id = id;
+        event.streamPosition = streamPosition;
+        event.publishedAt = publishedAt;
+        return event;
+    }
+
+    public boolean isPublished() {
+        return this.streamPosition != null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.coupon.api.domain;
+
+public enum CouponEventType {
+    CREATED,
+    DELETED,
+    REDEEMED,
+    BULK_CHANGED
+}
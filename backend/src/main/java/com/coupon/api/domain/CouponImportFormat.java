@@ -0,0 +1,17 @@
+package com.coupon.api.domain;
+
+import com.coupon.api.exception.InvalidCouponException;
+
+public enum CouponImportFormat {
+    CSV,
+    NDJSON;
+
+    public static CouponImportFormat from(String value) {
+        for (CouponImportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidCouponException("Unsupported import format: " + value);
+    }
+}
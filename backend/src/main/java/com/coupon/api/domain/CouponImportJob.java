@@ -0,0 +1,111 @@
+package com.coupon.api.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of one uploaded coupon file. The counters and the error file offset form the checkpoint:
+ * they are committed in the same transaction as the coupons of each chunk, so a restarted job skips
+ * exactly the rows that are already in the database. The owner is the node holding the uploaded
+ * file, the only one that can resume the job.
+ */
+@Entity
+@Table(name = "coupon_import_jobs",
+        indexes = @Index(name = "idx_coupon_import_jobs_owner_status", columnList = "owner, status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponImportJob {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "com.coupon.api.infrastructure.persistence.TimeOrderedUuidGenerator")
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10, updatable = false)
+    private CouponImportFormat format;
+
+    @Column(nullable = false, length = 100, updatable = false)
+    private String owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CouponImportStatus status;
+
+    @Column(nullable = false)
+    private long processedRows;
+
+    @Column(nullable = false)
+    private long importedRows;
+
+    @Column(nullable = false)
+    private long failedRows;
+
+    @Column(nullable = false)
+    private long errorFileOffset;
+
+    @Column(length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private CouponImportJob(CouponImportFormat format, String owner) {
+        this.format = format;
+        this.owner = owner;
+        this.status = CouponImportStatus.RECEIVING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public static CouponImportJob create(CouponImportFormat format, String owner) {
+        return new CouponImportJob(format, owner);
+    }
+
+    public void received() {
+        this.status = CouponImportStatus.PENDING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.status = CouponImportStatus.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void checkpoint(int rows, int imported, int failed, long errorFileOffset) {
+        this.processedRows += rows;
+        this.importedRows += imported;
+        this.failedRows += failed;
+        this.errorFileOffset = errorFileOffset;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = CouponImportStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = CouponImportStatus.FAILED;
+        this.message = message != null && message.length() > MAX_MESSAGE_LENGTH
+            ? message.substring(0, MAX_MESSAGE_LENGTH)
+            : message;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return this.status == CouponImportStatus.COMPLETED || this.status == CouponImportStatus.FAILED;
+    }
+}
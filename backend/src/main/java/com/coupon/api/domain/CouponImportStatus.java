@@ -0,0 +1,9 @@
+package com.coupon.api.domain;
+
+public enum CouponImportStatus {
+    RECEIVING,
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.coupon.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponBatchErrorDTO {
+
+    private Integer index;
+    private String code;
+    private String message;
+
+}
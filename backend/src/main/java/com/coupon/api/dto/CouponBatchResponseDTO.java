@@ -0,0 +1,22 @@
+package com.coupon.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponBatchResponseDTO {
+
+    private Integer total;
+    private Integer created;
+    private Integer failed;
+    private List<CouponResponseDTO> coupons;
+    private List<CouponBatchErrorDTO> errors;
+
+}
@@ -0,0 +1,27 @@
+package com.coupon.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Either {@code ids} or at least one of the filter fields; {@code expiresTo} is exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponBulkDeleteRequestDTO {
+
+    private List<UUID> ids;
+    private String codePrefix;
+    private LocalDateTime expiresFrom;
+    private LocalDateTime expiresTo;
+    private Boolean published;
+
+}
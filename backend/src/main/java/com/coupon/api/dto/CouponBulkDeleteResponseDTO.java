@@ -0,0 +1,18 @@
+package com.coupon.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponBulkDeleteResponseDTO {
+
+    private Long deleted;
+    private Long alreadyDeleted;
+    private Long notFound;
+
+}
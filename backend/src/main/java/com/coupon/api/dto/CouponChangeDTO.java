@@ -0,0 +1,23 @@
+package com.coupon.api.dto;
+
+import com.coupon.api.domain.CouponStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponChangeDTO {
+
+    private Long position;
+    private UUID id;
+    private CouponStatus status;
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,26 @@
+package com.coupon.api.dto;
+
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.domain.CouponStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponEventDTO {
+
+    private Long id;
+    private Long position;
+    private UUID couponId;
+    private CouponEventType type;
+    private CouponStatus status;
+    private LocalDateTime occurredAt;
+
+}
@@ -0,0 +1,19 @@
+package com.coupon.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponEventPageDTO {
+
+    private List<CouponEventDTO> events;
+    private Long nextCursor;
+
+}
@@ -0,0 +1,23 @@
+package com.coupon.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponExpirationRunDTO {
+
+    private LocalDateTime startedAt;
+    private Long durationMillis;
+    private Integer batches;
+    private Long expired;
+    private Long totalRuns;
+    private Long totalExpired;
+
+}
@@ -0,0 +1,29 @@
+package com.coupon.api.dto;
+
+import com.coupon.api.domain.CouponImportFormat;
+import com.coupon.api.domain.CouponImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponImportJobDTO {
+
+    private UUID id;
+    private CouponImportFormat format;
+    private CouponImportStatus status;
+    private Long processedRows;
+    private Long importedRows;
+    private Long failedRows;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+}
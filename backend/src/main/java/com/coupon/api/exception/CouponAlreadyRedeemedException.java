@@ -0,0 +1,9 @@
+package com.coupon.api.exception;
+
+public class CouponAlreadyRedeemedException extends RuntimeException {
+
+    public CouponAlreadyRedeemedException(String message) {
+        super(message);
+    }
+
+}
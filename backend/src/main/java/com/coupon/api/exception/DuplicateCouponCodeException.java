@@ -0,0 +1,9 @@
+package com.coupon.api.exception;
+
+public class DuplicateCouponCodeException extends InvalidCouponException {
+
+    public DuplicateCouponCodeException(String message) {
+        super(message);
+    }
+
+}
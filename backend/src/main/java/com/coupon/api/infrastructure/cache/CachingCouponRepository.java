@@ -0,0 +1,152 @@
+package com.coupon.api.infrastructure.cache;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.infrastructure.persistence.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Caches id lookups as immutable {@link CouponView}s, so the same instance can be handed to every
+ * caller and thread. Entity lookups always go to the delegate: a cached {@link Coupon} would be
+ * shared and mutable. Writes invalidate their entries once the transaction commits; invalidating
+ * earlier would let a concurrent lookup cache the old row again for the whole TTL.
+ */
+public class CachingCouponRepository implements CouponRepository {
+
+    private final CouponRepository delegate;
+    private final Cache<UUID, CouponView> couponsById;
+
+    public CachingCouponRepository(CouponRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.couponsById = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        Coupon savedCoupon = delegate.save(coupon);
+        AfterCommit.run(() -> couponsById.invalidate(savedCoupon.getId()));
+        return savedCoupon;
+    }
+
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        List<Coupon> savedCoupons = delegate.saveAll(coupons);
+        AfterCommit.run(() -> {
+            for (Coupon savedCoupon : savedCoupons) {
+                couponsById.invalidate(savedCoupon.getId());
+            }
+        });
+        return savedCoupons;
+    }
+
+    @Override
+    public Optional<Coupon> findByIdAndNotDeleted(UUID id) {
+        return delegate.findByIdAndNotDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIncludingDeleted(UUID id) {
+        return delegate.findByIdIncludingDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByCodeAndNotDeleted(String code) {
+        return delegate.findByCodeAndNotDeleted(code);
+    }
+
+    @Override
+    public Optional<CouponView> findViewById(UUID id) {
+        return Optional.ofNullable(couponsById.get(id, key -> delegate.findViewById(key).orElse(null)));
+    }
+
+    @Override
+    public Optional<CouponView> findViewByCode(String code) {
+        return delegate.findViewByCode(code);
+    }
+
+    @Override
+    public boolean redeem(UUID id, LocalDateTime redeemedAt) {
+        boolean redeemed = delegate.redeem(id, redeemedAt);
+        AfterCommit.run(() -> couponsById.invalidate(id));
+        return redeemed;
+    }
+
+    @Override
+    public boolean delete(UUID id, LocalDateTime deletedAt) {
+        boolean deleted = delegate.delete(id, deletedAt);
+        AfterCommit.run(() -> couponsById.invalidate(id));
+        return deleted;
+    }
+
+    @Override
+    public boolean existsIncludingDeleted(UUID id) {
+        return delegate.existsIncludingDeleted(id);
+    }
+
+    @Override
+    public List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit) {
+        return delegate.findPage(filter, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<CouponView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public int expireActive(LocalDateTime now, int limit) {
+        int expired = delegate.expireActive(now, limit);
+        if (expired > 0) {
+            AfterCommit.run(couponsById::invalidateAll);
+        }
+        return expired;
+    }
+
+    @Override
+    public CouponDeletionCounts deleteByIds(Collection<UUID> ids, LocalDateTime deletedAt) {
+        CouponDeletionCounts counts = delegate.deleteByIds(ids, deletedAt);
+        AfterCommit.run(() -> couponsById.invalidateAll(ids));
+        return counts;
+    }
+
+    @Override
+    public int deleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit) {
+        int deleted = delegate.deleteMatching(filter, deletedAt, limit);
+        if (deleted > 0) {
+            AfterCommit.run(couponsById::invalidateAll);
+        }
+        return deleted;
+    }
+
+    public void invalidateAll() {
+        couponsById.invalidateAll();
+    }
+
+    public Cache<UUID, CouponView> cache() {
+        return couponsById;
+    }
+
+    public CacheStats stats() {
+        return couponsById.stats();
+    }
+}
@@ -0,0 +1,244 @@
+package com.coupon.api.infrastructure.events;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.dto.CouponChangeDTO;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans relayed coupon events out to change subscribers. Every node tails the outbox by stream
+ * position through {@link #poll()}, so subscribers see the changes relayed by any node. Each
+ * subscriber has its own bounded buffer, drained on the executor, so publishing never waits on a
+ * subscriber. When a buffer is full its pending changes are dropped and the subscriber is sent a
+ * resync instead, telling it to discard whatever it cached; the resync is always delivered after the
+ * dropped changes would have been. A {@link CouponEventType#BULK_CHANGED} event reaches every
+ * subscriber as a resync in its place in the stream.
+ *
+ * <p>A subscriber resuming from a stream position is first sent the events it missed, read back from
+ * the outbox, as long as they fit in one buffer; further behind, with no position to resume from, or
+ * before this node's first poll, it starts with a resync.
+ */
+public class CouponChangeBus {
+
+    private final CouponEventRepository couponEventRepository;
+    private final int bufferSize;
+    private final Executor executor;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    private volatile long position = -1;
+
+    public CouponChangeBus(CouponEventRepository couponEventRepository, int bufferSize, Executor executor) {
+        this.couponEventRepository = couponEventRepository;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Publishes the events relayed since the previous poll. The first poll only records the current
+     * position, so a node starts from the live end of the stream rather than its beginning. Called
+     * from one thread at a time.
+     *
+     * @return the number of events published
+     */
+    public int poll() {
+        if (position < 0) {
+            position = couponEventRepository.lastPosition();
+            return 0;
+        }
+        int published = 0;
+        List<CouponEvent> events;
+        do {
+            events = couponEventRepository.findPublishedAfter(position, bufferSize);
+            publish(events);
+            published += events.size();
+        } while (events.size() == bufferSize);
+        return published;
+    }
+
+    /**
+     * @param lastPosition the stream position of the last change the subscriber saw, or {@code null}
+     */
+    public Subscription subscribe(Subscriber subscriber, Long lastPosition) {
+        Subscription subscription = new Subscription(subscriber);
+        subscriptions.add(subscription);
+        // read after registering, so whatever is published from here on is buffered or replayed
+        long current = position;
+        if (lastPosition == null || current < 0) {
+            subscription.overflowed.set(true);
+        } else {
+            subscription.delivered = lastPosition;
+            subscription.replayAfter = lastPosition;
+        }
+        // until now offers only buffered, so the first drain already knows where to resume
+        subscription.draining.set(false);
+        subscription.schedule();
+        return subscription;
+    }
+
+    public void publish(List<CouponEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Long last = events.get(events.size() - 1).getStreamPosition();
+        if (last != null) {
+            position = last;
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(events);
+        }
+    }
+
+    /**
+     * The stream position of the last event published, or -1 before the first poll.
+     */
+    public long position() {
+        return position;
+    }
+
+    public int subscribers() {
+        return subscriptions.size();
+    }
+
+    public long resyncs() {
+        return resyncs.get();
+    }
+
+    private static CouponChangeDTO toChange(CouponEvent event) {
+        return CouponChangeDTO.builder()
+            .position(event.getStreamPosition())
+            .id(event.getCouponId())
+            .status(event.getCouponStatus())
+            .updatedAt(event.getOccurredAt())
+            .build();
+    }
+
+    /**
+     * Called on an executor thread, one call at a time per subscription. Throwing cancels the
+     * subscription.
+     */
+    public interface Subscriber {
+
+        void onChange(CouponChangeDTO change) throws IOException;
+
+        /**
+         * @param position the stream position of the bulk change behind the resync, or {@code null}
+         *                 when the subscriber fell behind
+         */
+        void onResync(Long position) throws IOException;
+    }
+
+    public final class Subscription {
+
+        private final Subscriber subscriber;
+        private final BlockingQueue<CouponEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        private volatile boolean cancelled;
+        private volatile Long replayAfter;
+        private long delivered;
+
+        private Subscription(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            buffer.clear();
+        }
+
+        private void offer(List<CouponEvent> events) {
+            for (CouponEvent event : events) {
+                if (!buffer.offer(event)) {
+                    // the flag is raised before the clear, so the drain cannot miss the resync
+                    if (overflowed.compareAndSet(false, true)) {
+                        resyncs.incrementAndGet();
+                    }
+                    buffer.clear();
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (cancelled || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                draining.set(false);
+            }
+        }
+
+        /**
+         * Sends at most one buffer's worth before giving the thread back, so subscribers sharing the
+         * executor take turns. Buffered events the replay already covered are skipped.
+         */
+        private void drain() {
+            try {
+                if (replayAfter != null) {
+                    replay(replayAfter);
+                    replayAfter = null;
+                }
+                for (int sent = 0; sent < bufferSize && !cancelled; sent++) {
+                    if (overflowed.getAndSet(false)) {
+                        subscriber.onResync(null);
+                        continue;
+                    }
+                    CouponEvent event = buffer.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    send(event);
+                }
+            } catch (IOException | RuntimeException ex) {
+                cancel();
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty() || overflowed.get()) {
+                schedule();
+            }
+        }
+
+        private void replay(long after) throws IOException {
+            List<CouponEvent> missed = couponEventRepository.findPublishedAfter(after, bufferSize + 1);
+            if (missed.size() > bufferSize) {
+                resyncs.incrementAndGet();
+                overflowed.set(true);
+                return;
+            }
+            for (CouponEvent event : missed) {
+                send(event);
+            }
+        }
+
+        private void send(CouponEvent event) throws IOException {
+            Long eventPosition = event.getStreamPosition();
+            if (eventPosition != null) {
+                if (eventPosition <= delivered) {
+                    return;
+                }
+                delivered = eventPosition;
+            }
+            if (event.getType() == CouponEventType.BULK_CHANGED) {
+                subscriber.onResync(eventPosition);
+            } else {
+                subscriber.onChange(toChange(event));
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.coupon.api.infrastructure.events;
+
+import com.coupon.api.application.usecase.ReadCouponEventsUseCase;
+import com.coupon.api.dto.CouponEventDTO;
+import com.coupon.api.dto.CouponEventPageDTO;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Long-poll reads of the event stream. A request with nothing new after its cursor is parked without
+ * holding a servlet thread until the relay publishes more events or the wait runs out, when it gets
+ * an empty page. On each {@link #signal()} the parked requests are grouped by cursor, so consumers
+ * that are caught up share one query.
+ */
+public class CouponEventLongPoll {
+
+    private final ReadCouponEventsUseCase readCouponEventsUseCase;
+    private final Executor executor;
+    private final Duration maxWait;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    public CouponEventLongPoll(ReadCouponEventsUseCase readCouponEventsUseCase, Executor executor, Duration maxWait) {
+        this.readCouponEventsUseCase = readCouponEventsUseCase;
+        this.executor = executor;
+        this.maxWait = maxWait;
+    }
+
+    public DeferredResult<CouponEventPageDTO> poll(long after, int limit, Duration wait) {
+        readCouponEventsUseCase.validate(after, limit);
+        Duration timeout = wait.isNegative() ? Duration.ZERO : wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        CouponEventPageDTO empty = CouponEventPageDTO.builder()
+            .events(Collections.emptyList())
+            .nextCursor(after)
+            .build();
+
+        if (timeout.isZero()) {
+            DeferredResult<CouponEventPageDTO> result = new DeferredResult<>();
+            result.setResult(readCouponEventsUseCase.execute(after, limit));
+            return result;
+        }
+
+        DeferredResult<CouponEventPageDTO> result = new DeferredResult<>(timeout.toMillis(), empty);
+        Waiter waiter = new Waiter(after, limit, result);
+        // registered before the first read, so events relayed in between still wake it
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        offer(waiter, readCouponEventsUseCase.execute(after, limit));
+        return result;
+    }
+
+    /**
+     * Called after the relay published new events.
+     */
+    public void signal() {
+        Map<Long, List<Waiter>> byCursor = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            byCursor.computeIfAbsent(waiter.after, after -> new ArrayList<>()).add(waiter);
+        }
+        for (Map.Entry<Long, List<Waiter>> entry : byCursor.entrySet()) {
+            executor.execute(() -> wake(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    public int waiting() {
+        return waiters.size();
+    }
+
+    private void wake(long after, List<Waiter> group) {
+        int limit = 0;
+        for (Waiter waiter : group) {
+            limit = Math.max(limit, waiter.limit);
+        }
+        try {
+            CouponEventPageDTO page = readCouponEventsUseCase.execute(after, limit);
+            for (Waiter waiter : group) {
+                offer(waiter, page);
+            }
+        } catch (RuntimeException ex) {
+            for (Waiter waiter : group) {
+                waiters.remove(waiter);
+                waiter.result.setErrorResult(ex);
+            }
+        }
+    }
+
+    private void offer(Waiter waiter, CouponEventPageDTO page) {
+        if (waiter.offer(page)) {
+            waiters.remove(waiter);
+        }
+    }
+
+    private static final class Waiter {
+
+        private final long after;
+        private final int limit;
+        private final DeferredResult<CouponEventPageDTO> result;
+
+        private Waiter(long after, int limit, DeferredResult<CouponEventPageDTO> result) {
+            this.after = after;
+            this.limit = limit;
+            this.result = result;
+        }
+
+        private boolean offer(CouponEventPageDTO page) {
+            List<CouponEventDTO> events = page.getEvents();
+            if (events.isEmpty()) {
+                return false;
+            }
+            if (events.size() > limit) {
+                events = events.subList(0, limit);
+                page = CouponEventPageDTO.builder()
+                    .events(events)
+                    .nextCursor(events.get(limit - 1).getPosition())
+                    .build();
+            }
+            result.setResult(page);
+            return true;
+        }
+    }
+}
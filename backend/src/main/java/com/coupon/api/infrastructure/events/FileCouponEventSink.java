@@ -0,0 +1,60 @@
+package com.coupon.api.infrastructure.events;
+
+import com.coupon.api.application.port.CouponEventSink;
+import com.coupon.api.domain.CouponEvent;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each event as one JSON line to a local file, for development and tests or for a log
+ * shipper to pick up. A batch is written and flushed before the relay marks it published.
+ */
+public class FileCouponEventSink implements CouponEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileCouponEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public synchronized void publish(List<CouponEvent> events) {
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            for (CouponEvent event : events) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", event.getId());
+                generator.writeStringField("couponId",
+                    event.getCouponId() != null ? event.getCouponId().toString() : null);
+                generator.writeStringField("type", event.getType().name());
+                generator.writeStringField("status",
+                    event.getCouponStatus() != null ? event.getCouponStatus().name() : null);
+                generator.writeStringField("occurredAt", event.getOccurredAt().toString());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.coupon.api.infrastructure.events;
+
+import com.coupon.api.application.port.CouponEventSink;
+import com.coupon.api.domain.CouponEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hands each relayed batch to the listeners registered in this JVM. A listener that throws fails the
+ * publish, so the relay retries the batch; listeners are expected to be quick and not to block.
+ */
+public class InProcessCouponEventSink implements CouponEventSink {
+
+    private final List<Consumer<List<CouponEvent>>> listeners = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<List<CouponEvent>> listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Consumer<List<CouponEvent>> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void publish(List<CouponEvent> events) {
+        for (Consumer<List<CouponEvent>> listener : listeners) {
+            listener.accept(events);
+        }
+    }
+}
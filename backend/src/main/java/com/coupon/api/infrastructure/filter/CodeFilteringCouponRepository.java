@@ -0,0 +1,146 @@
+package com.coupon.api.infrastructure.filter;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.infrastructure.persistence.AfterCommit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Answers code lookups for codes the {@link CouponCodeFilter} has never seen without reaching the
+ * delegate, and keeps the filter current with the coupons saved through it. Codes are added only
+ * once their transaction commits, which {@link CouponCodeFilter} relies on during a rebuild.
+ */
+public class CodeFilteringCouponRepository implements CouponRepository {
+
+    private final CouponRepository delegate;
+    private final CouponCodeFilter codeFilter;
+
+    public CodeFilteringCouponRepository(CouponRepository delegate, CouponCodeFilter codeFilter) {
+        this.delegate = delegate;
+        this.codeFilter = codeFilter;
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        Coupon savedCoupon = delegate.save(coupon);
+        track(savedCoupon);
+        return savedCoupon;
+    }
+
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        List<Coupon> savedCoupons = delegate.saveAll(coupons);
+        for (Coupon savedCoupon : savedCoupons) {
+            track(savedCoupon);
+        }
+        return savedCoupons;
+    }
+
+    @Override
+    public Optional<Coupon> findByIdAndNotDeleted(UUID id) {
+        return delegate.findByIdAndNotDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIncludingDeleted(UUID id) {
+        return delegate.findByIdIncludingDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByCodeAndNotDeleted(String code) {
+        if (!codeFilter.mightContain(CouponCode.of(code))) {
+            return Optional.empty();
+        }
+        Optional<Coupon> coupon = delegate.findByCodeAndNotDeleted(code);
+        if (!coupon.isPresent()) {
+            codeFilter.recordFalsePositive();
+        }
+        return coupon;
+    }
+
+    @Override
+    public Optional<CouponView> findViewById(UUID id) {
+        return delegate.findViewById(id);
+    }
+
+    @Override
+    public Optional<CouponView> findViewByCode(String code) {
+        if (!codeFilter.mightContain(CouponCode.of(code))) {
+            return Optional.empty();
+        }
+        Optional<CouponView> coupon = delegate.findViewByCode(code);
+        if (!coupon.isPresent()) {
+            codeFilter.recordFalsePositive();
+        }
+        return coupon;
+    }
+
+    @Override
+    public boolean redeem(UUID id, LocalDateTime redeemedAt) {
+        return delegate.redeem(id, redeemedAt);
+    }
+
+    @Override
+    public boolean delete(UUID id, LocalDateTime deletedAt) {
+        boolean deleted = delegate.delete(id, deletedAt);
+        if (deleted) {
+            AfterCommit.run(codeFilter::recordRemoval);
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean existsIncludingDeleted(UUID id) {
+        return delegate.existsIncludingDeleted(id);
+    }
+
+    @Override
+    public List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit) {
+        return delegate.findPage(filter, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<CouponView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public int expireActive(LocalDateTime now, int limit) {
+        return delegate.expireActive(now, limit);
+    }
+
+    @Override
+    public CouponDeletionCounts deleteByIds(Collection<UUID> ids, LocalDateTime deletedAt) {
+        CouponDeletionCounts counts = delegate.deleteByIds(ids, deletedAt);
+        AfterCommit.run(() -> codeFilter.recordRemovals(counts.getDeleted()));
+        return counts;
+    }
+
+    @Override
+    public int deleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit) {
+        int deleted = delegate.deleteMatching(filter, deletedAt, limit);
+        AfterCommit.run(() -> codeFilter.recordRemovals(deleted));
+        return deleted;
+    }
+
+    private void track(Coupon coupon) {
+        if (coupon.isDeleted()) {
+            AfterCommit.run(codeFilter::recordRemoval);
+        } else {
+            CouponCode code = coupon.getCodeKey();
+            AfterCommit.run(() -> codeFilter.add(code));
+        }
+    }
+}
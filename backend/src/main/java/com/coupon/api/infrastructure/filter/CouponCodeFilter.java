@@ -0,0 +1,164 @@
+package com.coupon.api.infrastructure.filter;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.domain.CouponCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Existence filter over the codes of all non-deleted coupons. It answers "definitely absent" or
+ * "maybe present"; until the first rebuild finishes every code is reported as maybe present.
+ *
+ * <p>A Bloom filter cannot forget a key, so deleted codes stay in it as false positives. Once they
+ * pass {@code maxStaleRatio} of the insertions, or more codes were added than the filter was sized
+ * for, it is rebuilt in the background from {@link CouponRepository#streamAll}. Codes added while a
+ * rebuild streams go into both filters. An add always happens after its coupon was committed, so a
+ * code missed by the rebuild query is one that was added to the new filter directly.
+ */
+public class CouponCodeFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponCodeFilter.class);
+
+    private final CouponRepository source;
+    private final Executor executor;
+    private final long minimumInsertions;
+    private final double falsePositiveRate;
+    private final double maxStaleRatio;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder staleEntries = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    private volatile CouponCodeBloomFilter filter;
+    private volatile CouponCodeBloomFilter building;
+
+    public CouponCodeFilter(CouponRepository source, Executor executor, long minimumInsertions,
+                            double falsePositiveRate, double maxStaleRatio) {
+        this.source = source;
+        this.executor = executor;
+        this.minimumInsertions = minimumInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxStaleRatio = maxStaleRatio;
+    }
+
+    public boolean mightContain(CouponCode code) {
+        CouponCodeBloomFilter current = filter;
+        if (current == null || current.mightContain(code.toLong())) {
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    public void add(CouponCode code) {
+        CouponCodeBloomFilter next = building;
+        CouponCodeBloomFilter current = filter;
+        if (current != null) {
+            current.put(code.toLong());
+            if (current.insertions() > current.expectedInsertions()) {
+                rebuildAsync();
+            }
+        }
+        if (next != null) {
+            next.put(code.toLong());
+        }
+    }
+
+    public void recordRemoval() {
+        recordRemovals(1);
+    }
+
+    public void recordRemovals(int count) {
+        if (count <= 0) {
+            return;
+        }
+        staleEntries.add(count);
+        CouponCodeBloomFilter current = filter;
+        if (current != null && staleEntries.sum() > current.insertions() * maxStaleRatio) {
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * Called when a code the filter reported as maybe present was not found in the store.
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void rebuildAsync() {
+        if (rebuilding.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException ex) {
+                    log.error("Coupon code filter rebuild failed", ex);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    void rebuild() {
+        long startedAt = System.nanoTime();
+        CouponCodeBloomFilter current = filter;
+        long expected = Math.max(minimumInsertions, current != null ? current.insertions() * 2 : 0);
+        CouponCodeBloomFilter next = new CouponCodeBloomFilter(expected, falsePositiveRate);
+
+        building = next;
+        try {
+            source.streamAll(coupon -> next.put(CouponCode.of(coupon.getCode()).toLong()));
+            staleEntries.reset();
+            filter = next;
+        } finally {
+            building = null;
+        }
+        rebuilds.increment();
+        log.info("Rebuilt coupon code filter with {} codes ({} bits, {} hash functions, {} ms)",
+            next.insertions(), next.bitSize(), next.hashFunctions(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public double expectedFalsePositiveRate() {
+        CouponCodeBloomFilter current = filter;
+        return current != null ? current.expectedFalsePositiveRate() : 0;
+    }
+
+    /**
+     * Share of lookups for absent codes that the filter let through to the store.
+     */
+    public double observedFalsePositiveRate() {
+        long passed = falsePositives.sum();
+        long absent = passed + negatives.sum();
+        return absent > 0 ? (double) passed / absent : 0;
+    }
+
+    public long negatives() {
+        return negatives.sum();
+    }
+
+    public long falsePositives() {
+        return falsePositives.sum();
+    }
+
+    public long insertions() {
+        CouponCodeBloomFilter current = filter;
+        return current != null ? current.insertions() : 0;
+    }
+
+    public long rebuilds() {
+        return rebuilds.sum();
+    }
+}
@@ -0,0 +1,77 @@
+package com.coupon.api.infrastructure.imports;
+
+import com.coupon.api.application.port.CouponImportErrorWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffers one chunk's errors in memory and appends them to the error file on {@link #flush()}.
+ */
+public class CsvCouponImportErrorWriter implements CouponImportErrorWriter {
+
+    static final String HEADER = "row,code,message\n";
+
+    private final FileChannel channel;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    public CsvCouponImportErrorWriter(Path path, long offset) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        truncate(offset);
+        if (offset == 0) {
+            append(HEADER);
+            flush();
+        }
+    }
+
+    @Override
+    public void write(long row, String code, String message) throws IOException {
+        append(row + "," + escape(code) + "," + escape(message) + "\n");
+    }
+
+    @Override
+    public long position() throws IOException {
+        return channel.position();
+    }
+
+    @Override
+    public long flush() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        buffer.reset();
+        return channel.position();
+    }
+
+    @Override
+    public void truncate(long offset) throws IOException {
+        buffer.reset();
+        channel.truncate(offset);
+        channel.position(offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void append(String line) throws IOException {
+        buffer.write(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,149 @@
+package com.coupon.api.infrastructure.imports;
+
+import com.coupon.api.application.port.CouponImportRow;
+import com.coupon.api.application.port.CouponImportRowReader;
+import com.coupon.api.dto.CouponRequestDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks. Columns are
+ * matched by the header names, in any order.
+ */
+public class CsvCouponImportRowReader implements CouponImportRowReader {
+
+    static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    private static final String[] REQUIRED_COLUMNS = {"code", "description", "discountvalue", "expirationdate"};
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int pushedBack = -2;
+    private long number;
+
+    public CsvCouponImportRowReader(Reader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IOException("Missing CSV column: " + column);
+            }
+        }
+    }
+
+    @Override
+    public CouponImportRow next() throws IOException {
+        List<String> fields = readRecord();
+        while (fields != null && fields.size() == 1 && fields.get(0).trim().isEmpty()) {
+            fields = readRecord();
+        }
+        if (fields == null) {
+            return null;
+        }
+
+        number++;
+        try {
+            String published = field(fields, "published");
+            String discountValue = field(fields, "discountvalue");
+            String expirationDate = field(fields, "expirationdate");
+
+            return CouponImportRow.parsed(number, CouponRequestDTO.builder()
+                .code(field(fields, "code"))
+                .description(field(fields, "description"))
+                .discountValue(discountValue == null ? null : new BigDecimal(discountValue.trim()))
+                .expirationDate(expirationDate == null ? null : parseDateTime(expirationDate.trim()))
+                .published(published == null ? null : Boolean.valueOf(published.trim()))
+                .build());
+        } catch (NumberFormatException ex) {
+            return CouponImportRow.malformed(number, "Invalid discount value");
+        } catch (DateTimeParseException ex) {
+            return CouponImportRow.malformed(number, "Invalid expiration date");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return LocalDateTime.parse(value.endsWith("Z") ? value.substring(0, value.length() - 1) : value);
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        for (int c = read(); c != -1; c = read()) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            if (field.length() > MAX_FIELD_LENGTH) {
+                throw new IOException("CSV field exceeds " + MAX_FIELD_LENGTH + " characters near row " + (number + 1));
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
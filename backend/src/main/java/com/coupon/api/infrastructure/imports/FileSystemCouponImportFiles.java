@@ -0,0 +1,80 @@
+package com.coupon.api.infrastructure.imports;
+
+import com.coupon.api.application.port.CouponImportErrorWriter;
+import com.coupon.api.application.port.CouponImportFiles;
+import com.coupon.api.application.port.CouponImportRowReader;
+import com.coupon.api.domain.CouponImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Keeps each job's upload and error file under one directory, named after the job id.
+ */
+public class FileSystemCouponImportFiles implements CouponImportFiles {
+
+    private final Path directory;
+    private final ObjectReader jsonReader;
+
+    public FileSystemCouponImportFiles(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.jsonReader = objectMapper.reader();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void store(UUID jobId, InputStream content) throws IOException {
+        try (InputStream in = content) {
+            Files.copy(in, upload(jobId), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public CouponImportRowReader openRows(UUID jobId, CouponImportFormat format) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(upload(jobId), StandardCharsets.UTF_8);
+        try {
+            return format == CouponImportFormat.CSV
+                ? new CsvCouponImportRowReader(reader)
+                : new NdjsonCouponImportRowReader(reader, jsonReader);
+        } catch (IOException | RuntimeException ex) {
+            reader.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public CouponImportErrorWriter openErrors(UUID jobId, long offset) throws IOException {
+        return new CsvCouponImportErrorWriter(errors(jobId), offset);
+    }
+
+    @Override
+    public InputStream readErrors(UUID jobId) throws IOException {
+        Path errors = errors(jobId);
+        if (!Files.exists(errors)) {
+            return new ByteArrayInputStream(CsvCouponImportErrorWriter.HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+        return Files.newInputStream(errors);
+    }
+
+    private Path upload(UUID jobId) {
+        return directory.resolve(jobId + ".upload");
+    }
+
+    private Path errors(UUID jobId) {
+        return directory.resolve(jobId + ".errors.csv");
+    }
+}
@@ -0,0 +1,69 @@
+package com.coupon.api.infrastructure.imports;
+
+import com.coupon.api.application.port.CouponImportRow;
+import com.coupon.api.application.port.CouponImportRowReader;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One JSON object per line. Lines are read up to {@link #MAX_LINE_LENGTH} characters, so a file
+ * without line breaks cannot be pulled into memory whole.
+ */
+public class NdjsonCouponImportRowReader implements CouponImportRowReader {
+
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ObjectReader jsonReader;
+    private long number;
+
+    public NdjsonCouponImportRowReader(BufferedReader reader, ObjectReader jsonReader) {
+        this.reader = reader;
+        this.jsonReader = jsonReader.forType(CouponRequestDTO.class);
+    }
+
+    @Override
+    public CouponImportRow next() throws IOException {
+        String line = readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        number++;
+        try {
+            return CouponImportRow.parsed(number, jsonReader.readValue(line));
+        } catch (JsonProcessingException ex) {
+            return CouponImportRow.malformed(number, "Malformed JSON row");
+        }
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        for (; c != -1 && c != '\n'; c = reader.read()) {
+            if (c == '\r') {
+                continue;
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("NDJSON row exceeds " + MAX_LINE_LENGTH + " characters near row " + (number + 1));
+            }
+            line.append((char) c);
+        }
+        return line.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
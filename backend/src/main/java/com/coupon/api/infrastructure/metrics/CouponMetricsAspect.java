@@ -0,0 +1,67 @@
+package com.coupon.api.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Times every use case {@code execute*} call and every {@code CouponRepositoryAdapter} call, tagged
+ * by class, method and the exception thrown (if any). Timers publish a percentile histogram only,
+ * so percentiles are computed by the backend and aggregate across nodes. Each timer is registered
+ * once per method and exception and looked up from a map afterwards.
+ */
+@Aspect
+public class CouponMetricsAspect {
+
+    static final String USE_CASE_TIMER = "coupon.usecase";
+    static final String REPOSITORY_TIMER = "coupon.repository";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, ConcurrentMap<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public CouponMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.coupon.api.application.usecase.*UseCase.execute*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.coupon.api.infrastructure.persistence.CouponRepositoryAdapter.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(timer(name, (MethodSignature) joinPoint.getSignature(), exception));
+        }
+    }
+
+    private Timer timer(String name, MethodSignature signature, String exception) {
+        return timers.computeIfAbsent(signature.getMethod(), method -> new ConcurrentHashMap<>())
+            .computeIfAbsent(exception, key -> Timer.builder(name)
+                .tag("class", signature.getDeclaringType().getSimpleName())
+                .tag("method", signature.getName())
+                .tag("exception", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,29 @@
+package com.coupon.api.infrastructure.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects of a write, such as cache invalidation, until the surrounding transaction
+ * commits, so a rolled-back write leaves nothing behind and no reader can repopulate a cache with
+ * the pre-commit row after it was invalidated. Outside a transaction the adapter has already
+ * committed, so the action runs right away.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
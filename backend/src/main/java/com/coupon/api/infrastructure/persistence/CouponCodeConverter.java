@@ -0,0 +1,20 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.domain.CouponCode;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter(autoApply = true)
+public class CouponCodeConverter implements AttributeConverter<CouponCode, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(CouponCode code) {
+        return code != null ? code.toLong() : null;
+    }
+
+    @Override
+    public CouponCode convertToEntityAttribute(Long value) {
+        return value != null ? CouponCode.fromLong(value) : null;
+    }
+}
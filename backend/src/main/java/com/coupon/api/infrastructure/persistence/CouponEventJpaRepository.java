@@ -0,0 +1,21 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.domain.CouponEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CouponEventJpaRepository extends JpaRepository<CouponEvent, Long> {
+
+    List<CouponEvent> findByStreamPositionIsNullOrderByIdAsc(Pageable pageable);
+
+    List<CouponEvent> findByStreamPositionGreaterThanOrderByStreamPositionAsc(long streamPosition, Pageable pageable);
+
+    @Query("SELECT MAX(e.streamPosition) FROM CouponEvent e")
+    Long findMaxStreamPosition();
+
+}
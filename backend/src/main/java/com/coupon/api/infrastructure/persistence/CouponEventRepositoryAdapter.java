@@ -0,0 +1,67 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.domain.CouponEvent;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class CouponEventRepositoryAdapter implements CouponEventRepository {
+
+    private static final String MARK_PUBLISHED_SQL =
+        "UPDATE coupon_events SET stream_position = ?, published_at = ? WHERE id = ? AND stream_position IS NULL";
+
+    private final CouponEventJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CouponEventRepositoryAdapter(CouponEventJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public CouponEvent append(CouponEvent event) {
+        return jpaRepository.save(event);
+    }
+
+    @Override
+    public List<CouponEvent> findUnpublished(int limit) {
+        return jpaRepository.findByStreamPositionIsNullOrderByIdAsc(PageRequest.of(0, limit));
+    }
+
+    /**
+     * One batched JDBC update for the whole relay batch. Positions continue from the highest one in
+     * the table, and the unique index on them makes a second relay running concurrently fail instead
+     * of handing out the same positions twice.
+     */
+    @Override
+    @Transactional
+    public void markPublished(List<CouponEvent> events, LocalDateTime publishedAt) {
+        Long last = jpaRepository.findMaxStreamPosition();
+        long next = last != null ? last + 1 : 1;
+        Timestamp published = Timestamp.valueOf(publishedAt);
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (CouponEvent event : events) {
+            rows.add(new Object[]{next++, published, event.getId()});
+        }
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED_SQL, rows);
+    }
+
+    @Override
+    public List<CouponEvent> findPublishedAfter(long position, int limit) {
+        return jpaRepository.findByStreamPositionGreaterThanOrderByStreamPositionAsc(position, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long lastPosition() {
+        Long last = jpaRepository.findMaxStreamPosition();
+        return last != null ? last : 0;
+    }
+}
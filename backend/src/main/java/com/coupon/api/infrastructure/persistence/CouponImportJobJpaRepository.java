@@ -0,0 +1,17 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.domain.CouponImportJob;
+import com.coupon.api.domain.CouponImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CouponImportJobJpaRepository extends JpaRepository<CouponImportJob, UUID> {
+
+    List<CouponImportJob> findByOwnerAndStatusIn(String owner, Collection<CouponImportStatus> statuses);
+
+}
@@ -0,0 +1,51 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponImportJobRepository;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.domain.CouponImportJob;
+import com.coupon.api.domain.CouponImportStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class CouponImportJobRepositoryAdapter implements CouponImportJobRepository {
+
+    private final CouponImportJobJpaRepository jobJpaRepository;
+    private final CouponJpaRepository couponJpaRepository;
+
+    public CouponImportJobRepositoryAdapter(CouponImportJobJpaRepository jobJpaRepository,
+                                            CouponJpaRepository couponJpaRepository) {
+        this.jobJpaRepository = jobJpaRepository;
+        this.couponJpaRepository = couponJpaRepository;
+    }
+
+    @Override
+    public CouponImportJob save(CouponImportJob job) {
+        return jobJpaRepository.save(job);
+    }
+
+    @Override
+    public Optional<CouponImportJob> findById(UUID id) {
+        return jobJpaRepository.findById(id);
+    }
+
+    @Override
+    public List<CouponImportJob> findByOwnerAndStatusIn(String owner, Collection<CouponImportStatus> statuses) {
+        return jobJpaRepository.findByOwnerAndStatusIn(owner, statuses);
+    }
+
+    @Override
+    public Set<String> findActiveCodes(Collection<String> codes) {
+        List<CouponCode> keys = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            keys.add(CouponCode.of(code));
+        }
+        return couponJpaRepository.findActiveCodes(keys);
+    }
+}
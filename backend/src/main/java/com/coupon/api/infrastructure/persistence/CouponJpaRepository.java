@@ -1,24 +1,95 @@
 package com.coupon.api.infrastructure.persistence;
 
+import com.coupon.api.application.port.CouponView;
 import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface CouponJpaRepository extends JpaRepository<Coupon, UUID> {
+public interface CouponJpaRepository extends JpaRepository<Coupon, UUID>, CouponJpaRepositoryCustom {
+
+    /**
+     * Lookups are cached here only when the second-level and query caches are enabled (profile
+     * {@code high-throughput}); otherwise the hints are ignored. The bulk updates below evict the
+     * whole region, so the cache only pays off for read-mostly workloads.
+     */
+    String QUERY_CACHE_REGION = "coupon-query";
 
     @Query("SELECT c FROM Coupon c WHERE c.id = :id AND c.status != 'DELETED'")
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = QUERY_CACHE_REGION)})
     Optional<Coupon> findByIdAndNotDeleted(@Param("id") UUID id);
 
-    @Query("SELECT c FROM Coupon c WHERE c.id = :id")
+    /**
+     * Native, so the entity's {@code @Where} clause cannot hide a deleted coupon.
+     */
+    @Query(value = "SELECT * FROM coupons WHERE id = :id", nativeQuery = true)
     Optional<Coupon> findByIdIncludingDeleted(@Param("id") UUID id);
 
-    @Query("SELECT c FROM Coupon c WHERE c.code = :code AND c.status != 'DELETED'")
-    Optional<Coupon> findByCodeAndNotDeleted(@Param("code") String code);
+    @Query("SELECT c FROM Coupon c WHERE c.codeKey = :code AND c.status <> 'DELETED'")
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = QUERY_CACHE_REGION)})
+    Optional<Coupon> findByCodeAndNotDeleted(@Param("code") CouponCode code);
+
+    default Optional<Coupon> findByCodeAndNotDeleted(String code) {
+        return findByCodeAndNotDeleted(CouponCode.of(code));
+    }
+
+    /**
+     * Constructor-expression projections for the read endpoints: the rows are never hydrated into
+     * managed entities, so there is no snapshot for dirty checking, and the read-only transaction
+     * keeps the session from flushing. With the query cache on, the projected columns are cached
+     * like the entity lookups above.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = QUERY_CACHE_REGION)})
+    @Query("SELECT new com.coupon.api.application.port.CouponView(c.id, c.code, c.description, c.discountValue, " +
+           "c.expirationDate, c.status, c.published, c.redeemed, c.createdAt, c.updatedAt) " +
+           "FROM Coupon c WHERE c.id = :id AND c.status <> 'DELETED'")
+    Optional<CouponView> findViewById(@Param("id") UUID id);
+
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true"),
+                 @QueryHint(name = "org.hibernate.cacheRegion", value = QUERY_CACHE_REGION)})
+    @Query("SELECT new com.coupon.api.application.port.CouponView(c.id, c.code, c.description, c.discountValue, " +
+           "c.expirationDate, c.status, c.published, c.redeemed, c.createdAt, c.updatedAt) " +
+           "FROM Coupon c WHERE c.codeKey = :code AND c.status <> 'DELETED'")
+    Optional<CouponView> findViewByCode(@Param("code") CouponCode code);
+
+    @Query("SELECT c.code FROM Coupon c WHERE c.codeKey IN :codes AND c.status <> 'DELETED'")
+    Set<String> findActiveCodes(@Param("codes") Collection<CouponCode> codes);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE coupons SET status = 'INACTIVE', updated_at = :now WHERE id IN (" +
+                   "SELECT id FROM coupons WHERE status = 'ACTIVE' AND expiration_date < :now LIMIT :limit)",
+           nativeQuery = true)
+    int expireActive(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Coupon c SET c.status = com.coupon.api.domain.CouponStatus.DELETED, c.activeCodeKey = NULL, " +
+           "c.updatedAt = :deletedAt WHERE c.id = :id AND c.status <> 'DELETED'")
+    int softDelete(@Param("id") UUID id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Coupon c SET c.redeemed = true, c.updatedAt = :redeemedAt " +
+           "WHERE c.id = :id AND c.redeemed = false AND c.status = 'ACTIVE' AND c.expirationDate > :redeemedAt")
+    int redeemIfAvailable(@Param("id") UUID id, @Param("redeemedAt") LocalDateTime redeemedAt);
 
 }
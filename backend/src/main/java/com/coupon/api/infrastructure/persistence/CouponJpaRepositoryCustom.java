@@ -0,0 +1,23 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.domain.Coupon;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CouponJpaRepositoryCustom {
+
+    List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit);
+
+    int softDeleteByIds(Collection<UUID> ids, LocalDateTime deletedAt);
+
+    int countByIdsIncludingDeleted(Collection<UUID> ids);
+
+    int softDeleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit);
+
+}
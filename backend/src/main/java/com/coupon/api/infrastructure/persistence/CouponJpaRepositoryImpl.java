@@ -0,0 +1,133 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.domain.CouponStatus;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CouponJpaRepositoryImpl implements CouponJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Native, so the cursor is a row-value comparison on {@code (created_at, id)}: PostgreSQL turns it
+     * into a single range scan on the composite index, where the OR-expanded form only bounds the
+     * first column.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM coupons WHERE status <> 'DELETED'");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = :status");
+            parameters.put("status", filter.getStatus().name());
+        }
+        if (filter.getPublished() != null) {
+            sql.append(" AND published = :published");
+            parameters.put("published", filter.getPublished());
+        }
+        if (filter.getRedeemed() != null) {
+            sql.append(" AND redeemed = :redeemed");
+            parameters.put("redeemed", filter.getRedeemed());
+        }
+        if (filter.getExpiresFrom() != null) {
+            sql.append(" AND expiration_date >= :expiresFrom");
+            parameters.put("expiresFrom", filter.getExpiresFrom());
+        }
+        if (filter.getExpiresTo() != null) {
+            sql.append(" AND expiration_date < :expiresTo");
+            parameters.put("expiresTo", filter.getExpiresTo());
+        }
+        if (after != null) {
+            sql.append(" AND (created_at, id) < (:cursorCreatedAt, :cursorId)");
+            parameters.put("cursorCreatedAt", after.getCreatedAt());
+            parameters.put("cursorId", after.getId());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Coupon.class)
+            .setHint(QueryHints.READ_ONLY, true)
+            .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public int softDeleteByIds(Collection<UUID> ids, LocalDateTime deletedAt) {
+        return entityManager.createQuery(
+                "UPDATE Coupon c SET c.status = :deleted, c.activeCodeKey = NULL, c.updatedAt = :deletedAt " +
+                "WHERE c.id IN :ids AND c.status <> :deleted")
+            .setParameter("deleted", CouponStatus.DELETED)
+            .setParameter("deletedAt", deletedAt)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    /**
+     * Native, so the entity's {@code @Where} clause cannot hide deleted rows from the count.
+     */
+    @Override
+    public int countByIdsIncludingDeleted(Collection<UUID> ids) {
+        Number count = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM coupons WHERE id IN (:ids)")
+            .setParameter("ids", ids)
+            .getSingleResult();
+        return count.intValue();
+    }
+
+    /**
+     * Deletes one chunk with a single UPDATE over a LIMITed subquery, like the expiration sweep. A code
+     * prefix becomes a range over {@code code_key}, so it is served by the code index.
+     */
+    @Override
+    public int softDeleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit) {
+        StringBuilder sql = new StringBuilder(
+            "UPDATE coupons SET status = 'DELETED', active_code_key = NULL, updated_at = :deletedAt " +
+            "WHERE id IN (SELECT id FROM coupons WHERE status <> 'DELETED'");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.getCodePrefix() != null) {
+            sql.append(" AND code_key BETWEEN :codeFrom AND :codeTo");
+            parameters.put("codeFrom", CouponCode.lowestWithPrefix(filter.getCodePrefix()).toLong());
+            parameters.put("codeTo", CouponCode.highestWithPrefix(filter.getCodePrefix()).toLong());
+        }
+        if (filter.getExpiresFrom() != null) {
+            sql.append(" AND expiration_date >= :expiresFrom");
+            parameters.put("expiresFrom", filter.getExpiresFrom());
+        }
+        if (filter.getExpiresTo() != null) {
+            sql.append(" AND expiration_date < :expiresTo");
+            parameters.put("expiresTo", filter.getExpiresTo());
+        }
+        if (filter.getPublished() != null) {
+            sql.append(" AND published = :published");
+            parameters.put("published", filter.getPublished());
+        }
+        sql.append(" LIMIT :limit)");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+            .setParameter("deletedAt", deletedAt)
+            .setParameter("limit", limit);
+        parameters.forEach(query::setParameter);
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Coupon.class);
+
+        return query.executeUpdate();
+    }
+}
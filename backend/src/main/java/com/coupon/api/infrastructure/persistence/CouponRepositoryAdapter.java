@@ -1,24 +1,76 @@
 package com.coupon.api.infrastructure.persistence;
 
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
 import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
 import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.exception.DuplicateCouponCodeException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 public class CouponRepositoryAdapter implements CouponRepository {
 
+    static final int EXPORT_FETCH_SIZE = 1_000;
+    static final String ACTIVE_CODE_CONSTRAINT = "uk_coupons_active_code";
+
+    private static final String EXPORT_SQL =
+        "SELECT id, code, description, discount_value, expiration_date, status, published, redeemed, created_at, " +
+        "updated_at FROM coupons WHERE status <> 'DELETED' ORDER BY created_at, id";
+
     private final CouponJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public CouponRepositoryAdapter(CouponJpaRepository jpaRepository) {
+    public CouponRepositoryAdapter(CouponJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    /**
+     * Flushes right away so a duplicate code surfaces here, where it is translated, even when the
+     * save runs inside a larger unit of work that commits later.
+     */
     @Override
     public Coupon save(Coupon coupon) {
-        return jpaRepository.save(coupon);
+        try {
+            return jpaRepository.saveAndFlush(coupon);
+        } catch (RuntimeException ex) {
+            throw translate(ex, coupon);
+        }
+    }
+
+    /**
+     * Flushes like {@link #save(Coupon)}, so an import chunk learns about a duplicate code before its
+     * checkpoint commits.
+     */
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        try {
+            List<Coupon> saved = jpaRepository.saveAll(coupons);
+            jpaRepository.flush();
+            return saved;
+        } catch (RuntimeException ex) {
+            throw translate(ex, null);
+        }
     }
 
     @Override
@@ -35,4 +87,122 @@ public class CouponRepositoryAdapter implements CouponRepository {
     public Optional<Coupon> findByCodeAndNotDeleted(String code) {
         return jpaRepository.findByCodeAndNotDeleted(code);
     }
+
+    @Override
+    public Optional<CouponView> findViewById(UUID id) {
+        return jpaRepository.findViewById(id);
+    }
+
+    @Override
+    public Optional<CouponView> findViewByCode(String code) {
+        return jpaRepository.findViewByCode(CouponCode.of(code));
+    }
+
+    @Override
+    public boolean redeem(UUID id, LocalDateTime redeemedAt) {
+        return jpaRepository.redeemIfAvailable(id, redeemedAt) == 1;
+    }
+
+    @Override
+    public boolean delete(UUID id, LocalDateTime deletedAt) {
+        return jpaRepository.softDelete(id, deletedAt) == 1;
+    }
+
+    @Override
+    public boolean existsIncludingDeleted(UUID id) {
+        return jpaRepository.countByIdsIncludingDeleted(Collections.singletonList(id)) > 0;
+    }
+
+    @Override
+    public List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit) {
+        return jpaRepository.findPage(filter, after, limit);
+    }
+
+    @Override
+    public int expireActive(LocalDateTime now, int limit) {
+        return jpaRepository.expireActive(now, limit);
+    }
+
+    /**
+     * The update and the count share a transaction, so a coupon deleted concurrently is counted either
+     * as deleted here or as already deleted, never both.
+     */
+    @Override
+    @Transactional
+    public CouponDeletionCounts deleteByIds(Collection<UUID> ids, LocalDateTime deletedAt) {
+        int deleted = jpaRepository.softDeleteByIds(ids, deletedAt);
+        int existing = jpaRepository.countByIdsIncludingDeleted(ids);
+        return new CouponDeletionCounts(deleted, existing - deleted, ids.size() - existing);
+    }
+
+    @Override
+    @Transactional
+    public int deleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit) {
+        return jpaRepository.softDeleteMatching(filter, deletedAt, limit);
+    }
+
+    /**
+     * Reads straight from a forward-only JDBC cursor, bypassing the persistence context, so only
+     * one fetch of rows is ever held in memory. The read-only transaction keeps the connection out
+     * of auto-commit mode, which PostgreSQL requires before it honours the fetch size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<CouponView> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            consumer.accept(new CouponView(
+                readUuid(resultSet.getObject("id")),
+                resultSet.getString("code"),
+                resultSet.getString("description"),
+                resultSet.getBigDecimal("discount_value"),
+                resultSet.getTimestamp("expiration_date").toLocalDateTime(),
+                CouponStatus.valueOf(resultSet.getString("status")),
+                resultSet.getBoolean("published"),
+                resultSet.getBoolean("redeemed"),
+                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                resultSet.getTimestamp("updated_at").toLocalDateTime()));
+        });
+    }
+
+    /**
+     * Hibernate stores {@link UUID} ids as a native uuid column on PostgreSQL and as 16 big-endian
+     * bytes on H2.
+     */
+    private static UUID readUuid(Object value) {
+        if (value instanceof UUID) {
+            return (UUID) value;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap((byte[]) value);
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    private RuntimeException translate(RuntimeException ex, Coupon coupon) {
+        if (isActiveCodeViolation(ex)) {
+            return new DuplicateCouponCodeException(coupon != null
+                ? "Coupon code already exists: " + coupon.getCode()
+                : "Coupon code already exists");
+        }
+        return ex;
+    }
+
+    /**
+     * Matches on the constraint name Hibernate extracted from the violation. PostgreSQL reports the
+     * index name as is; H2 reports the index backing the constraint with schema and suffix (for
+     * example {@code PUBLIC.UK_COUPONS_ACTIVE_CODE_INDEX_6}), hence the containment check.
+     */
+    static boolean isActiveCodeViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String constraintName = ((ConstraintViolationException) cause).getConstraintName();
+                return constraintName != null
+                    && constraintName.toLowerCase(Locale.ROOT).contains(ACTIVE_CODE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
 }
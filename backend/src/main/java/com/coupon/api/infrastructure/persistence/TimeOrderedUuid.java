@@ -0,0 +1,40 @@
+package com.coupon.api.infrastructure.persistence;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 layout: 48-bit Unix epoch milliseconds, version, 12-bit sequence, variant and 62 random bits.
+ * The sequence keeps ids strictly increasing within the same millisecond, so inserts always land
+ * on the right-most leaf of the primary key index.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long state = nextState(System.currentTimeMillis() << 12);
+        long mostSigBits = ((state >>> 12) << 16) | 0x7000L | (state & 0xFFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextState(long candidate) {
+        while (true) {
+            long last = LAST_STATE.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_STATE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.UnitOfWork;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the work in a JPA transaction; the repository adapters' own {@code @Transactional} methods
+ * join it.
+ */
+@Component
+public class TransactionalUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionalUnitOfWork(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.coupon.api.infrastructure.reactive;
+
+import com.coupon.api.application.usecase.CreateCouponUseCase;
+import com.coupon.api.application.usecase.DeleteCouponUseCase;
+import com.coupon.api.application.usecase.GetCouponByCodeUseCase;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.CouponNotFoundException;
+import com.coupon.api.exception.InvalidCouponException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exposes the use cases with reactive return types. Each call is deferred until subscription and then
+ * runs unchanged on {@code blockingScheduler}, a pool sized to the connection pool, so the thread that
+ * subscribed is released while JDBC blocks and callers can fan many lookups out at once.
+ */
+public class ReactiveCouponUseCases {
+
+    private final CreateCouponUseCase createCouponUseCase;
+    private final GetCouponByIdUseCase getCouponByIdUseCase;
+    private final GetCouponByCodeUseCase getCouponByCodeUseCase;
+    private final RedeemCouponUseCase redeemCouponUseCase;
+    private final DeleteCouponUseCase deleteCouponUseCase;
+    private final Scheduler blockingScheduler;
+    private final int checkConcurrency;
+    private final int maxCheckCodes;
+
+    public ReactiveCouponUseCases(CreateCouponUseCase createCouponUseCase,
+                                  GetCouponByIdUseCase getCouponByIdUseCase,
+                                  GetCouponByCodeUseCase getCouponByCodeUseCase,
+                                  RedeemCouponUseCase redeemCouponUseCase,
+                                  DeleteCouponUseCase deleteCouponUseCase,
+                                  Scheduler blockingScheduler,
+                                  int checkConcurrency,
+                                  int maxCheckCodes) {
+        if (checkConcurrency <= 0) {
+            throw new IllegalArgumentException("Check concurrency must be positive");
+        }
+        this.createCouponUseCase = createCouponUseCase;
+        this.getCouponByIdUseCase = getCouponByIdUseCase;
+        this.getCouponByCodeUseCase = getCouponByCodeUseCase;
+        this.redeemCouponUseCase = redeemCouponUseCase;
+        this.deleteCouponUseCase = deleteCouponUseCase;
+        this.blockingScheduler = blockingScheduler;
+        this.checkConcurrency = checkConcurrency;
+        this.maxCheckCodes = maxCheckCodes;
+    }
+
+    public Mono<CouponResponseDTO> create(CouponRequestDTO request) {
+        return Mono.fromCallable(() -> createCouponUseCase.execute(request)).subscribeOn(blockingScheduler);
+    }
+
+    public Mono<CouponResponseDTO> findById(UUID id) {
+        return Mono.fromCallable(() -> getCouponByIdUseCase.execute(id)).subscribeOn(blockingScheduler);
+    }
+
+    public Mono<CouponResponseDTO> findByCode(String code) {
+        return Mono.fromCallable(() -> getCouponByCodeUseCase.execute(code)).subscribeOn(blockingScheduler);
+    }
+
+    public Mono<CouponResponseDTO> redeem(String code) {
+        return Mono.fromCallable(() -> redeemCouponUseCase.execute(code)).subscribeOn(blockingScheduler);
+    }
+
+    public Mono<Void> delete(UUID id) {
+        return Mono.<Void>fromRunnable(() -> deleteCouponUseCase.execute(id)).subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * Looks up several codes concurrently, at most {@code checkConcurrency} at a time, and emits the
+     * coupons found in the order the codes were given. Unknown and malformed codes are left out, so a
+     * cart with one bad code still gets the rest back.
+     */
+    public Flux<CouponResponseDTO> check(List<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            return Flux.error(new InvalidCouponException("At least one code is required"));
+        }
+        if (codes.size() > maxCheckCodes) {
+            return Flux.error(new InvalidCouponException("Cannot check more than " + maxCheckCodes + " codes at once"));
+        }
+        return Flux.fromIterable(codes)
+            .flatMapSequential(code -> findByCode(code)
+                .onErrorResume(CouponNotFoundException.class, ex -> Mono.empty())
+                .onErrorResume(InvalidCouponException.class, ex -> Mono.empty()), checkConcurrency);
+    }
+}
@@ -0,0 +1,524 @@
+package com.coupon.api.infrastructure.replica;
+
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponCode;
+import com.coupon.api.domain.CouponStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Column-oriented store of non-deleted coupons. Every field lives in a primitive array indexed by
+ * row, and two open-addressing tables map the id (its two longs) and the code (six ASCII bytes
+ * packed into a long) to a row, so a lookup touches a few array slots instead of chasing map nodes,
+ * entities and boxed fields.
+ *
+ * <p>Writers are serialized by a {@link StampedLock}. Readers copy the row under an optimistic stamp
+ * and only fall back to the read lock when a write overlapped them. Timestamps are kept with
+ * microsecond precision and discount values with two decimal places, matching the database columns.
+ */
+public class CompactCouponStore {
+
+    static final int CODE_LENGTH = 6;
+
+    private static final int DEFAULT_CAPACITY = 1_024;
+    private static final int DISCOUNT_SCALE = 2;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final CouponStatus[] STATUSES = CouponStatus.values();
+    private static final int STATUS_MASK = 0x0F;
+    private static final int PUBLISHED = 0x10;
+    private static final int REDEEMED = 0x20;
+
+    private final StampedLock lock = new StampedLock();
+
+    private Columns columns;
+    private int size;
+
+    public CompactCouponStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CompactCouponStore(int expectedSize) {
+        this.columns = new Columns(capacityFor(expectedSize));
+    }
+
+    public Optional<Coupon> findById(UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+
+        long stamp = lock.tryOptimisticRead();
+        Row row = readById(most, least);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                row = readById(most, least);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return row != null ? Optional.of(row.toCoupon()) : Optional.empty();
+    }
+
+    public Optional<Coupon> findByCode(String code) {
+        long packed = packCode(code);
+        if (packed < 0) {
+            return Optional.empty();
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        Row row = readByCode(packed);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                row = readByCode(packed);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return row != null ? Optional.of(row.toCoupon()) : Optional.empty();
+    }
+
+    /**
+     * Inserts or replaces the coupon. A deleted coupon is removed instead, and a stored coupon holding
+     * the same code under another id is dropped, since the database only keeps codes unique among
+     * coupons that are not deleted.
+     */
+    public void put(Coupon coupon) {
+        if (coupon.isDeleted()) {
+            remove(coupon.getId());
+            return;
+        }
+        long packed = packCode(coupon.getCode());
+        if (packed < 0) {
+            throw new IllegalArgumentException("Coupon code cannot be packed: " + coupon.getCode());
+        }
+        long most = coupon.getId().getMostSignificantBits();
+        long least = coupon.getId().getLeastSignificantBits();
+
+        long stamp = lock.writeLock();
+        try {
+            int sameCode = rowByCode(columns, packed);
+            if (sameCode >= 0 && (columns.idMost[sameCode] != most || columns.idLeast[sameCode] != least)) {
+                removeRow(sameCode);
+            }
+            int row = rowById(columns, most, least);
+            if (row >= 0 && columns.codes[row] != packed) {
+                removeRow(row);
+                row = -1;
+            }
+            if (row < 0) {
+                if (size == columns.capacity) {
+                    columns = columns.grow();
+                }
+                row = size++;
+                columns.idMost[row] = most;
+                columns.idLeast[row] = least;
+                columns.codes[row] = packed;
+                insert(columns.idTable, mix(most ^ least), row);
+                insert(columns.codeTable, mix(packed), row);
+            }
+            write(columns, row, coupon);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(UUID id) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowById(columns, id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row < 0) {
+                return false;
+            }
+            removeRow(row);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean markRedeemed(UUID id, LocalDateTime redeemedAt) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowById(columns, id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row < 0) {
+                return false;
+            }
+            columns.flags[row] |= REDEEMED;
+            columns.updatedAts[row] = toMicros(redeemedAt);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies the ACTIVE to INACTIVE transition of {@link Coupon#expire(LocalDateTime)} to every stored
+     * coupon. A scan over the expiration column is cheap enough to run after each database sweep.
+     */
+    public int expireActive(LocalDateTime now) {
+        long nowMicros = toMicros(now);
+        int activeFlag = CouponStatus.ACTIVE.ordinal();
+        int inactiveFlag = CouponStatus.INACTIVE.ordinal();
+        int expired = 0;
+
+        long stamp = lock.writeLock();
+        try {
+            Columns c = columns;
+            for (int row = 0; row < size; row++) {
+                if ((c.flags[row] & STATUS_MASK) == activeFlag && c.expirations[row] < nowMicros) {
+                    c.flags[row] = (byte) ((c.flags[row] & ~STATUS_MASK) | inactiveFlag);
+                    c.updatedAts[row] = nowMicros;
+                    expired++;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return expired;
+    }
+
+    /**
+     * Removes every coupon matching {@code filter}. Rows are scanned from the end, so the row moved into
+     * a hole has already been checked. Codes are alphanumeric, so a prefix is a range of packed codes.
+     *
+     * @return the number of coupons removed
+     */
+    public int removeMatching(CouponDeletionFilter filter) {
+        String prefix = filter.getCodePrefix();
+        long codeFrom = prefix != null ? packCode(CouponCode.lowestWithPrefix(prefix).toString()) : Long.MIN_VALUE;
+        long codeTo = prefix != null ? packCode(CouponCode.highestWithPrefix(prefix).toString()) : Long.MAX_VALUE;
+        long expiresFrom = filter.getExpiresFrom() != null ? toMicros(filter.getExpiresFrom()) : Long.MIN_VALUE;
+        long expiresTo = filter.getExpiresTo() != null ? toMicros(filter.getExpiresTo()) : Long.MAX_VALUE;
+        Boolean published = filter.getPublished();
+        int removed = 0;
+
+        long stamp = lock.writeLock();
+        try {
+            Columns c = columns;
+            for (int row = size - 1; row >= 0; row--) {
+                if (c.codes[row] >= codeFrom && c.codes[row] <= codeTo
+                        && c.expirations[row] >= expiresFrom && c.expirations[row] < expiresTo
+                        && (published == null || published == ((c.flags[row] & PUBLISHED) != 0))) {
+                    removeRow(row);
+                    removed++;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return removed;
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Bytes retained by the arrays, plus an estimate for the description strings (Java 8 layout:
+     * String header and a char array with two bytes per character).
+     */
+    public long estimatedBytes() {
+        long stamp = lock.readLock();
+        try {
+            Columns c = columns;
+            long bytes = 7L * longArrayBytes(c.capacity)
+                + alignedBytes(16L + c.capacity)
+                + alignedBytes(16L + 4L * c.capacity)
+                + 2L * alignedBytes(16L + 4L * c.idTable.length);
+            for (int row = 0; row < size; row++) {
+                bytes += 24L + alignedBytes(16L + 2L * c.descriptions[row].length());
+            }
+            return bytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Row readById(long most, long least) {
+        Columns c = columns;
+        int row = rowById(c, most, least);
+        return row >= 0 ? new Row(c, row) : null;
+    }
+
+    private Row readByCode(long packed) {
+        Columns c = columns;
+        int row = rowByCode(c, packed);
+        return row >= 0 ? new Row(c, row) : null;
+    }
+
+    private static int rowById(Columns c, long most, long least) {
+        int[] table = c.idTable;
+        int mask = table.length - 1;
+        for (int slot = mix(most ^ least) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int row = table[slot] - 1;
+            if (c.idMost[row] == most && c.idLeast[row] == least) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private static int rowByCode(Columns c, long packed) {
+        int[] table = c.codeTable;
+        int mask = table.length - 1;
+        for (int slot = mix(packed) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int row = table[slot] - 1;
+            if (c.codes[row] == packed) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the row by moving the last row into its place, so rows stay dense and scans never see
+     * holes.
+     */
+    private void removeRow(int row) {
+        Columns c = columns;
+        remove(c.idTable, slotOf(c.idTable, mix(c.idMost[row] ^ c.idLeast[row]), row), c, true);
+        remove(c.codeTable, slotOf(c.codeTable, mix(c.codes[row]), row), c, false);
+
+        int last = --size;
+        if (row != last) {
+            int idSlot = slotOf(c.idTable, mix(c.idMost[last] ^ c.idLeast[last]), last);
+            int codeSlot = slotOf(c.codeTable, mix(c.codes[last]), last);
+            c.copyRow(last, row);
+            c.idTable[idSlot] = row + 1;
+            c.codeTable[codeSlot] = row + 1;
+        }
+        c.descriptions[last] = null;
+    }
+
+    private static int slotOf(int[] table, int hash, int row) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != row + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static void insert(int[] table, int hash, int row) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = row + 1;
+    }
+
+    /**
+     * Backward-shift deletion for linear probing: entries after the hole move back when the hole lies
+     * between their home slot and their current slot, so no tombstones are needed.
+     */
+    private static void remove(int[] table, int slot, Columns c, boolean byId) {
+        int mask = table.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int row = table[next] - 1;
+            int home = (byId ? mix(c.idMost[row] ^ c.idLeast[row]) : mix(c.codes[row])) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private static void write(Columns c, int row, Coupon coupon) {
+        c.descriptions[row] = coupon.getDescription();
+        c.discounts[row] = coupon.getDiscountValue().setScale(DISCOUNT_SCALE, RoundingMode.HALF_UP)
+            .unscaledValue().longValueExact();
+        c.expirations[row] = toMicros(coupon.getExpirationDate());
+        c.createdAts[row] = toMicros(coupon.getCreatedAt());
+        c.updatedAts[row] = toMicros(coupon.getUpdatedAt());
+        c.flags[row] = (byte) (coupon.getStatus().ordinal()
+            | (Boolean.TRUE.equals(coupon.getPublished()) ? PUBLISHED : 0)
+            | (Boolean.TRUE.equals(coupon.getRedeemed()) ? REDEEMED : 0));
+    }
+
+    /**
+     * Packs a six character ASCII code into the low 48 bits of a long, or returns -1 when the code
+     * cannot be represented that way.
+     */
+    static long packCode(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return -1;
+        }
+        long packed = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            char c = code.charAt(i);
+            if (c == 0 || c > 0x7F) {
+                return -1;
+            }
+            packed = (packed << 8) | c;
+        }
+        return packed;
+    }
+
+    static String unpackCode(long packed) {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = (char) (packed & 0xFF);
+            packed >>>= 8;
+        }
+        return new String(chars);
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+            (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long longArrayBytes(int length) {
+        return alignedBytes(16L + 8L * length);
+    }
+
+    private static long alignedBytes(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * One generation of arrays. Growing allocates a new instance and publishes it through the final
+     * fields, so a reader always sees tables and columns of the same capacity.
+     */
+    private static final class Columns {
+
+        final int capacity;
+        final long[] idMost;
+        final long[] idLeast;
+        final long[] codes;
+        final long[] discounts;
+        final long[] expirations;
+        final long[] createdAts;
+        final long[] updatedAts;
+        final byte[] flags;
+        final String[] descriptions;
+        final int[] idTable;
+        final int[] codeTable;
+
+        Columns(int capacity) {
+            this.capacity = capacity;
+            this.idMost = new long[capacity];
+            this.idLeast = new long[capacity];
+            this.codes = new long[capacity];
+            this.discounts = new long[capacity];
+            this.expirations = new long[capacity];
+            this.createdAts = new long[capacity];
+            this.updatedAts = new long[capacity];
+            this.flags = new byte[capacity];
+            this.descriptions = new String[capacity];
+            this.idTable = new int[capacity * 2];
+            this.codeTable = new int[capacity * 2];
+        }
+
+        private Columns(Columns source, int capacity) {
+            this.capacity = capacity;
+            this.idMost = Arrays.copyOf(source.idMost, capacity);
+            this.idLeast = Arrays.copyOf(source.idLeast, capacity);
+            this.codes = Arrays.copyOf(source.codes, capacity);
+            this.discounts = Arrays.copyOf(source.discounts, capacity);
+            this.expirations = Arrays.copyOf(source.expirations, capacity);
+            this.createdAts = Arrays.copyOf(source.createdAts, capacity);
+            this.updatedAts = Arrays.copyOf(source.updatedAts, capacity);
+            this.flags = Arrays.copyOf(source.flags, capacity);
+            this.descriptions = Arrays.copyOf(source.descriptions, capacity);
+            this.idTable = new int[capacity * 2];
+            this.codeTable = new int[capacity * 2];
+            for (int row = 0; row < source.capacity; row++) {
+                insert(idTable, mix(idMost[row] ^ idLeast[row]), row);
+                insert(codeTable, mix(codes[row]), row);
+            }
+        }
+
+        Columns grow() {
+            return new Columns(this, capacity * 2);
+        }
+
+        void copyRow(int from, int to) {
+            idMost[to] = idMost[from];
+            idLeast[to] = idLeast[from];
+            codes[to] = codes[from];
+            discounts[to] = discounts[from];
+            expirations[to] = expirations[from];
+            createdAts[to] = createdAts[from];
+            updatedAts[to] = updatedAts[from];
+            flags[to] = flags[from];
+            descriptions[to] = descriptions[from];
+        }
+    }
+
+    /**
+     * Field values copied out of the arrays. Copying first lets an optimistic read be validated before
+     * any object is built from values a concurrent writer may have torn.
+     */
+    private static final class Row {
+
+        private final long idMost;
+        private final long idLeast;
+        private final long code;
+        private final String description;
+        private final long discount;
+        private final long expiration;
+        private final long createdAt;
+        private final long updatedAt;
+        private final int flags;
+
+        Row(Columns c, int row) {
+            this.idMost = c.idMost[row];
+            this.idLeast = c.idLeast[row];
+            this.code = c.codes[row];
+            this.description = c.descriptions[row];
+            this.discount = c.discounts[row];
+            this.expiration = c.expirations[row];
+            this.createdAt = c.createdAts[row];
+            this.updatedAt = c.updatedAts[row];
+            this.flags = c.flags[row];
+        }
+
+        Coupon toCoupon() {
+            return Coupon.restore(
+                new UUID(idMost, idLeast),
+                unpackCode(code),
+                description,
+                BigDecimal.valueOf(discount, DISCOUNT_SCALE),
+                fromMicros(expiration),
+                STATUSES[flags & STATUS_MASK],
+                (flags & PUBLISHED) != 0,
+                (flags & REDEEMED) != 0,
+                fromMicros(createdAt),
+                fromMicros(updatedAt));
+        }
+    }
+}
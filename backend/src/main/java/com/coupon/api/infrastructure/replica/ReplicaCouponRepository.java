@@ -0,0 +1,257 @@
+package com.coupon.api.infrastructure.replica;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.infrastructure.persistence.AfterCommit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Serves id and code lookups from a {@link CompactCouponStore} holding every non-deleted coupon, so
+ * read-heavy nodes answer them without a database round-trip. The store is rebuilt from periodic
+ * snapshots of the delegate and kept current with the writes that go through this node; a lookup
+ * that misses falls back to the delegate, so coupons created elsewhere since the last snapshot are
+ * still found. Writes reach the store once their transaction commits, and writes made while a
+ * snapshot loads are journaled and replayed onto it before the swap, so a refresh never rolls them
+ * back. A coupon loaded on a miss is stored only if no write reached the store since it was read,
+ * so a slow load cannot bring back a coupon deleted or changed in the meantime.
+ */
+public class ReplicaCouponRepository implements CouponRepository {
+
+    private final CouponRepository delegate;
+    private final int snapshotPageSize;
+    private final Object writeLock = new Object();
+    private volatile CompactCouponStore store = new CompactCouponStore();
+    private List<Consumer<CompactCouponStore>> journal;
+    private volatile long writes;
+
+    public ReplicaCouponRepository(CouponRepository delegate, int snapshotPageSize) {
+        this.delegate = delegate;
+        this.snapshotPageSize = snapshotPageSize;
+    }
+
+    /**
+     * Pages through the delegate newest first into a new store and swaps it in, so lookups keep being
+     * served from the previous snapshot while the next one loads. Writes applied meanwhile are
+     * replayed onto the new snapshot under the write lock, so none of them are lost by the swap.
+     *
+     * @return the number of coupons in the new snapshot
+     */
+    public synchronized int refresh() {
+        CompactCouponStore snapshot = new CompactCouponStore(store.size());
+        synchronized (writeLock) {
+            journal = new ArrayList<>();
+        }
+        try {
+            CouponFilter all = CouponFilter.builder().build();
+            CouponCursor after = null;
+            List<Coupon> page;
+            do {
+                page = delegate.findPage(all, after, snapshotPageSize);
+                for (Coupon coupon : page) {
+                    snapshot.put(coupon);
+                }
+                if (!page.isEmpty()) {
+                    Coupon last = page.get(page.size() - 1);
+                    after = new CouponCursor(last.getCreatedAt(), last.getId());
+                }
+            } while (page.size() == snapshotPageSize);
+
+            synchronized (writeLock) {
+                for (Consumer<CompactCouponStore> write : journal) {
+                    write.accept(snapshot);
+                }
+                store = snapshot;
+            }
+        } finally {
+            synchronized (writeLock) {
+                journal = null;
+            }
+        }
+        return snapshot.size();
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        Coupon savedCoupon = delegate.save(coupon);
+        apply(current -> current.put(savedCoupon));
+        return savedCoupon;
+    }
+
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        List<Coupon> savedCoupons = delegate.saveAll(coupons);
+        apply(current -> {
+            for (Coupon savedCoupon : savedCoupons) {
+                current.put(savedCoupon);
+            }
+        });
+        return savedCoupons;
+    }
+
+    @Override
+    public Optional<Coupon> findByIdAndNotDeleted(UUID id) {
+        Optional<Coupon> coupon = store.findById(id);
+        return coupon.isPresent() ? coupon : load(() -> delegate.findByIdAndNotDeleted(id));
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIncludingDeleted(UUID id) {
+        return delegate.findByIdIncludingDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByCodeAndNotDeleted(String code) {
+        Optional<Coupon> coupon = store.findByCode(code);
+        return coupon.isPresent() ? coupon : load(() -> delegate.findByCodeAndNotDeleted(code));
+    }
+
+    /**
+     * Served from the store like the entity lookups; a miss loads the full coupon so the store
+     * learns about it.
+     */
+    @Override
+    public Optional<CouponView> findViewById(UUID id) {
+        return findByIdAndNotDeleted(id).map(CouponView::from);
+    }
+
+    @Override
+    public Optional<CouponView> findViewByCode(String code) {
+        return findByCodeAndNotDeleted(code).map(CouponView::from);
+    }
+
+    /**
+     * A lost race means this node's copy was stale, so the coupon is reloaded from the delegate.
+     */
+    @Override
+    public boolean redeem(UUID id, LocalDateTime redeemedAt) {
+        boolean redeemed = delegate.redeem(id, redeemedAt);
+        if (redeemed) {
+            apply(current -> current.markRedeemed(id, redeemedAt));
+        } else {
+            Optional<Coupon> reloaded = delegate.findByIdIncludingDeleted(id);
+            if (reloaded.isPresent()) {
+                apply(current -> current.put(reloaded.get()));
+            } else {
+                apply(current -> current.remove(id));
+            }
+        }
+        return redeemed;
+    }
+
+    @Override
+    public boolean delete(UUID id, LocalDateTime deletedAt) {
+        boolean deleted = delegate.delete(id, deletedAt);
+        apply(current -> current.remove(id));
+        return deleted;
+    }
+
+    @Override
+    public boolean existsIncludingDeleted(UUID id) {
+        return delegate.existsIncludingDeleted(id);
+    }
+
+    @Override
+    public List<Coupon> findPage(CouponFilter filter, CouponCursor after, int limit) {
+        return delegate.findPage(filter, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<CouponView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public int expireActive(LocalDateTime now, int limit) {
+        int expired = delegate.expireActive(now, limit);
+        if (expired > 0) {
+            apply(current -> current.expireActive(now));
+        }
+        return expired;
+    }
+
+    @Override
+    public CouponDeletionCounts deleteByIds(Collection<UUID> ids, LocalDateTime deletedAt) {
+        CouponDeletionCounts counts = delegate.deleteByIds(ids, deletedAt);
+        apply(current -> {
+            for (UUID id : ids) {
+                current.remove(id);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Drops every stored coupon matching the filter on the first chunk rather than just the rows this
+     * chunk deleted. If the bulk delete stops early, the coupons still alive are found again through
+     * the delegate on their next lookup.
+     */
+    @Override
+    public int deleteMatching(CouponDeletionFilter filter, LocalDateTime deletedAt, int limit) {
+        int deleted = delegate.deleteMatching(filter, deletedAt, limit);
+        if (deleted > 0) {
+            apply(current -> current.removeMatching(filter));
+        }
+        return deleted;
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public long estimatedBytes() {
+        return store.estimatedBytes();
+    }
+
+    /**
+     * Applies a write to the live store after commit and, while a refresh is loading, journals it for
+     * the snapshot that will replace it.
+     */
+    private void apply(Consumer<CompactCouponStore> write) {
+        AfterCommit.run(() -> {
+            synchronized (writeLock) {
+                write.accept(store);
+                if (journal != null) {
+                    journal.add(write);
+                }
+                writes++;
+            }
+        });
+    }
+
+    /**
+     * Stores the coupon a miss read from the delegate, unless a write reached the store after the read
+     * started or the store already holds a newer copy. Writes are not matched by id, as bulk ones do
+     * not name theirs, so a skipped coupon is simply read again on its next miss. Loads are not
+     * journaled: the snapshot being loaded reads the coupon itself.
+     */
+    private Optional<Coupon> load(Supplier<Optional<Coupon>> lookup) {
+        long writesBeforeRead = writes;
+        Optional<Coupon> coupon = lookup.get();
+        coupon.ifPresent(found -> AfterCommit.run(() -> {
+            synchronized (writeLock) {
+                if (writes == writesBeforeRead && !holdsNewer(found)) {
+                    store.put(found);
+                }
+            }
+        }));
+        return coupon;
+    }
+
+    private boolean holdsNewer(Coupon found) {
+        Optional<Coupon> stored = store.findById(found.getId());
+        return stored.isPresent() && stored.get().getUpdatedAt().isAfter(found.getUpdatedAt());
+    }
+}
@@ -0,0 +1,60 @@
+package com.coupon.api.infrastructure.web;
+
+import com.coupon.api.dto.CouponChangeDTO;
+import com.coupon.api.infrastructure.events.CouponChangeBus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Opens a server-sent event stream of coupon changes: a {@code change} event per coupon created,
+ * redeemed or deleted, with its stream position as the event id, and a {@code resync} event when the
+ * client has to discard what it cached: after a bulk operation or when it fell behind. The stream
+ * ends after the timeout and the client reconnects with {@code Last-Event-ID}; the changes it missed
+ * meanwhile are replayed, or it is sent a resync when they no longer fit in its buffer.
+ */
+public class CouponChangeStream {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final CouponChangeBus couponChangeBus;
+    private final Duration timeout;
+
+    public CouponChangeStream(CouponChangeBus couponChangeBus, Duration timeout) {
+        this.couponChangeBus = couponChangeBus;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param lastEventId the id of the last event the client received, or {@code null} on its first
+     *                    connection
+     */
+    public SseEmitter open(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        CouponChangeBus.Subscription subscription = couponChangeBus.subscribe(new CouponChangeBus.Subscriber() {
+            @Override
+            public void onChange(CouponChangeDTO change) throws IOException {
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name(CHANGE_EVENT);
+                if (change.getPosition() != null) {
+                    event.id(change.getPosition().toString());
+                }
+                emitter.send(event.data(change, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void onResync(Long position) throws IOException {
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name(RESYNC_EVENT);
+                if (position != null) {
+                    event.id(position.toString());
+                }
+                emitter.send(event.data(RESYNC_EVENT));
+            }
+        }, lastEventId);
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        return emitter;
+    }
+}
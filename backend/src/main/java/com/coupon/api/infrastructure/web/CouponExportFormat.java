@@ -0,0 +1,35 @@
+package com.coupon.api.infrastructure.web;
+
+import com.coupon.api.exception.InvalidCouponException;
+import org.springframework.http.MediaType;
+
+public enum CouponExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    CouponExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static CouponExportFormat from(String value) {
+        for (CouponExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidCouponException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,118 @@
+package com.coupon.api.infrastructure.web;
+
+import com.coupon.api.application.port.CouponView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes coupons to the response one row at a time as they come off the repository cursor. Only
+ * the output buffer is held in memory, whatever the number of rows.
+ */
+public class CouponExportWriter {
+
+    static final String CSV_HEADER =
+        "id,code,description,discountValue,expirationDate,status,published,redeemed,createdAt";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter jsonWriter;
+
+    public CouponExportWriter(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper.writerFor(CouponView.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(CouponExportFormat format, OutputStream out, Consumer<Consumer<CouponView>> source)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            if (format == CouponExportFormat.CSV) {
+                writeCsv(writer, source);
+            } else {
+                writeNdjson(writer, source);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Writer writer, Consumer<Consumer<CouponView>> source) throws IOException {
+        JsonGenerator generator = jsonWriter.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        source.accept(view -> {
+            try {
+                jsonWriter.writeValue(generator, view);
+                generator.writeRaw('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.close();
+    }
+
+    private void writeCsv(Writer writer, Consumer<Consumer<CouponView>> source) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        source.accept(view -> {
+            try {
+                writer.write(view.getId().toString());
+                writer.write(',');
+                writer.write(view.getCode());
+                writer.write(',');
+                writeCsvField(writer, view.getDescription());
+                writer.write(',');
+                writer.write(view.getDiscountValue().toPlainString());
+                writer.write(',');
+                writer.write(view.getExpirationDate().toString());
+                writer.write(',');
+                writer.write(view.getStatus().name());
+                writer.write(',');
+                writer.write(view.getPublished().toString());
+                writer.write(',');
+                writer.write(view.getRedeemed().toString());
+                writer.write(',');
+                writer.write(view.getCreatedAt().toString());
+                writer.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,69 @@
+package com.coupon.api.infrastructure.web;
+
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class CouponJsonResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<UUID, EncodedCoupon> encodedCoupons;
+
+    public CouponJsonResponseCache(ObjectMapper objectMapper, boolean enabled, long maximumBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.encodedCoupons = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((UUID id, EncodedCoupon encoded) -> encoded.json.length + ENTRY_OVERHEAD_BYTES)
+            .recordStats()
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public byte[] get(CouponView coupon, Function<CouponView, CouponResponseDTO> mapper) {
+        EncodedCoupon encoded = encodedCoupons.getIfPresent(coupon.getId());
+        if (encoded != null && encoded.updatedAt.equals(coupon.getUpdatedAt())) {
+            return encoded.json;
+        }
+
+        byte[] json = encode(mapper.apply(coupon));
+        encodedCoupons.put(coupon.getId(), new EncodedCoupon(coupon.getUpdatedAt(), json));
+        return json;
+    }
+
+    public Cache<UUID, ?> cache() {
+        return encodedCoupons;
+    }
+
+    private byte[] encode(CouponResponseDTO response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize coupon " + response.getId(), ex);
+        }
+    }
+
+    private static final class EncodedCoupon {
+
+        private final LocalDateTime updatedAt;
+        private final byte[] json;
+
+        private EncodedCoupon(LocalDateTime updatedAt, byte[] json) {
+            this.updatedAt = updatedAt;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+CREATE TABLE coupons (
+    id              UUID           NOT NULL,
+    code            VARCHAR(6)     NOT NULL,
+    active_code     VARCHAR(6),
+    description     TEXT           NOT NULL,
+    discount_value  NUMERIC(10, 2) NOT NULL,
+    expiration_date TIMESTAMP      NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    published       BOOLEAN        NOT NULL,
+    redeemed        BOOLEAN        NOT NULL,
+    created_at      TIMESTAMP      NOT NULL,
+    updated_at      TIMESTAMP      NOT NULL,
+    CONSTRAINT pk_coupons PRIMARY KEY (id)
+);
+
+-- Codes are unique among coupons that are not deleted. H2 has no partial indexes and relies on a
+-- unique active_code column instead; here active_code is kept only for schema compatibility.
+CREATE UNIQUE INDEX uk_coupons_active_code ON coupons (code) WHERE status <> 'DELETED';
+
+CREATE INDEX idx_coupons_created_at_id ON coupons (created_at, id);
+CREATE INDEX idx_coupons_status_created_at_id ON coupons (status, created_at, id);
+CREATE INDEX idx_coupons_status_expiration_date ON coupons (expiration_date) WHERE status = 'ACTIVE';
+
+CREATE TABLE coupon_import_jobs (
+    id                UUID         NOT NULL,
+    format            VARCHAR(10)  NOT NULL,
+    status            VARCHAR(10)  NOT NULL,
+    processed_rows    BIGINT       NOT NULL,
+    imported_rows     BIGINT       NOT NULL,
+    failed_rows       BIGINT       NOT NULL,
+    error_file_offset BIGINT       NOT NULL,
+    message           VARCHAR(500),
+    created_at        TIMESTAMP    NOT NULL,
+    updated_at        TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_coupon_import_jobs PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_coupon_import_jobs_status ON coupon_import_jobs (status);
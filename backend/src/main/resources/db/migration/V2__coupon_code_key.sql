@@ -0,0 +1,20 @@
+-- Packs a six character code into six base-62 digits (0-9, A-Z, a-z), the same encoding as CouponCode.
+CREATE FUNCTION coupon_code_key(code VARCHAR) RETURNS BIGINT AS $$
+    SELECT SUM((STRPOS('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', SUBSTR(code, i, 1)) - 1)
+               * POWER(62::NUMERIC, 6 - i))::BIGINT
+    FROM generate_series(1, 6) AS i
+$$ LANGUAGE SQL IMMUTABLE STRICT;
+
+ALTER TABLE coupons ADD COLUMN code_key BIGINT;
+ALTER TABLE coupons ADD COLUMN active_code_key BIGINT;
+
+UPDATE coupons
+SET code_key = coupon_code_key(code),
+    active_code_key = CASE WHEN status <> 'DELETED' THEN coupon_code_key(code) END;
+
+ALTER TABLE coupons ALTER COLUMN code_key SET NOT NULL;
+ALTER TABLE coupons DROP COLUMN active_code;
+
+-- Uniqueness and code lookups move from the VARCHAR code to the 8-byte key.
+DROP INDEX uk_coupons_active_code;
+CREATE UNIQUE INDEX uk_coupons_active_code ON coupons (code_key) WHERE status <> 'DELETED';
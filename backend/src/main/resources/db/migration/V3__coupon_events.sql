@@ -0,0 +1,15 @@
+-- Transactional outbox of coupon changes. stream_position is assigned by the relay once an event is
+-- published and is what consumers page by; NULL marks events still waiting for the relay.
+CREATE TABLE coupon_events (
+    id              BIGSERIAL   NOT NULL,
+    coupon_id       UUID        NOT NULL,
+    type            VARCHAR(20) NOT NULL,
+    coupon_status   VARCHAR(20) NOT NULL,
+    occurred_at     TIMESTAMP   NOT NULL,
+    stream_position BIGINT,
+    published_at    TIMESTAMP,
+    CONSTRAINT pk_coupon_events PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_coupon_events_stream_position ON coupon_events (stream_position);
+CREATE INDEX idx_coupon_events_unpublished ON coupon_events (id) WHERE stream_position IS NULL;
@@ -0,0 +1,6 @@
+-- Listing filters on published, redeemed or an expiration range. Each index leads with the filter
+-- column and ends with the (created_at, id) cursor, so filtered pages are index range scans; deleted
+-- rows never match a listing and are left out.
+CREATE INDEX idx_coupons_published_created_at_id ON coupons (published, created_at, id) WHERE status <> 'DELETED';
+CREATE INDEX idx_coupons_redeemed_created_at_id ON coupons (redeemed, created_at, id) WHERE status <> 'DELETED';
+CREATE INDEX idx_coupons_expiration_date_created_at_id ON coupons (expiration_date, created_at, id) WHERE status <> 'DELETED';
@@ -0,0 +1,7 @@
+-- Each import job belongs to the node that stored its upload; only that node resumes it after a
+-- restart. Jobs created before this column existed are assigned to no node and are not resumed.
+ALTER TABLE coupon_import_jobs ADD COLUMN owner VARCHAR(100) NOT NULL DEFAULT '';
+ALTER TABLE coupon_import_jobs ALTER COLUMN owner DROP DEFAULT;
+
+DROP INDEX idx_coupon_import_jobs_status;
+CREATE INDEX idx_coupon_import_jobs_owner_status ON coupon_import_jobs (owner, status);
@@ -0,0 +1,4 @@
+-- Set-based operations (expiration, bulk delete, batch create, imports) append one BULK_CHANGED
+-- event per run instead of one per coupon; it names no coupon.
+ALTER TABLE coupon_events ALTER COLUMN coupon_id DROP NOT NULL;
+ALTER TABLE coupon_events ALTER COLUMN coupon_status DROP NOT NULL;
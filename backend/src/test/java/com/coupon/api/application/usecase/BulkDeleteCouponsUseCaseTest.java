@@ -0,0 +1,128 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.dto.CouponBulkDeleteRequestDTO;
+import com.coupon.api.dto.CouponBulkDeleteResponseDTO;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkDeleteCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    private BulkDeleteCouponsUseCase useCase;
+
+    @Before
+    public void setUp() {
+        useCase = new BulkDeleteCouponsUseCase(couponRepository, couponEventRepository, unitOfWork, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldDeleteDistinctIdsInChunksAndSumCounts() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(couponRepository.deleteByIds(anyCollection(), any(LocalDateTime.class)))
+            .thenReturn(new CouponDeletionCounts(1, 1, 0))
+            .thenReturn(new CouponDeletionCounts(0, 0, 1));
+
+        CouponBulkDeleteResponseDTO response = useCase.execute(CouponBulkDeleteRequestDTO.builder()
+            .ids(Arrays.asList(first, second, first, third))
+            .build());
+
+        ArgumentCaptor<Collection<UUID>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(couponRepository, times(2)).deleteByIds(chunks.capture(), any(LocalDateTime.class));
+        List<List<UUID>> captured = new ArrayList<>();
+        for (Collection<UUID> chunk : chunks.getAllValues()) {
+            captured.add(new ArrayList<>(chunk));
+        }
+        assertEquals(Arrays.asList(Arrays.asList(first, second), Collections.singletonList(third)), captured);
+        assertEquals(Long.valueOf(1), response.getDeleted());
+        assertEquals(Long.valueOf(1), response.getAlreadyDeleted());
+        assertEquals(Long.valueOf(1), response.getNotFound());
+        verify(couponEventRepository, times(1)).append(any(CouponEvent.class));
+    }
+
+    @Test
+    public void shouldDeleteMatchingCouponsUntilAChunkComesBackShort() {
+        when(couponRepository.deleteMatching(any(CouponDeletionFilter.class), any(LocalDateTime.class), eq(2)))
+            .thenReturn(2, 2, 1);
+
+        CouponBulkDeleteResponseDTO response = useCase.execute(CouponBulkDeleteRequestDTO.builder()
+            .codePrefix("BF")
+            .published(true)
+            .build());
+
+        verify(couponRepository, times(3)).deleteMatching(
+            eq(CouponDeletionFilter.builder().codePrefix("BF").published(true).build()), any(LocalDateTime.class), eq(2));
+        assertEquals(Long.valueOf(5), response.getDeleted());
+        assertEquals(Long.valueOf(0), response.getNotFound());
+        verify(couponEventRepository, times(3)).append(any(CouponEvent.class));
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRequireIdsOrFilter() {
+        useCase.execute(new CouponBulkDeleteRequestDTO());
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectIdsMixedWithFilter() {
+        useCase.execute(CouponBulkDeleteRequestDTO.builder()
+            .ids(Collections.singletonList(UUID.randomUUID()))
+            .published(true)
+            .build());
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectMalformedPrefixBeforeDeletingAnything() {
+        try {
+            useCase.execute(CouponBulkDeleteRequestDTO.builder().codePrefix("BF-").build());
+        } finally {
+            verifyZeroInteractions(couponRepository);
+        }
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectEmptyExpirationRange() {
+        LocalDateTime now = LocalDateTime.now();
+        useCase.execute(CouponBulkDeleteRequestDTO.builder().expiresFrom(now).expiresTo(now).build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CreateCouponBatchUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    private CreateCouponBatchUseCase useCase;
+
+    @Before
+    public void setUp() {
+        useCase = new CreateCouponBatchUseCase(couponRepository, couponEventRepository, unitOfWork, 2);
+    }
+
+    @Test
+    public void shouldPersistValidCouponsInChunks() {
+        when(couponRepository.saveAll(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.<List<Coupon>>getArgument(0)));
+
+        CouponBatchResponseDTO response = useCase.execute(Arrays.asList(
+            request("AAA111"), request("BBB222"), request("CCC333")));
+
+        assertEquals(Integer.valueOf(3), response.getTotal());
+        assertEquals(Integer.valueOf(3), response.getCreated());
+        assertEquals(Integer.valueOf(0), response.getFailed());
+        assertEquals("AAA111", response.getCoupons().get(0).getCode());
+        assertEquals("CCC333", response.getCoupons().get(2).getCode());
+        assertTrue(response.getErrors().isEmpty());
+
+        verify(couponRepository, times(2)).saveAll(anyList());
+        verify(couponRepository, never()).save(any(Coupon.class));
+        verify(couponEventRepository, times(2)).append(argThat(event -> event.getType() == CouponEventType.BULK_CHANGED));
+    }
+
+    @Test
+    public void shouldReportInvalidItemsWithoutFailingTheBatch() {
+        when(couponRepository.saveAll(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.<List<Coupon>>getArgument(0)));
+
+        CouponRequestDTO lowDiscount = request("BBB222");
+        lowDiscount.setDiscountValue(new BigDecimal("0.1"));
+
+        CouponBatchResponseDTO response = useCase.execute(Arrays.asList(
+            request("AAA111"), lowDiscount, request("AB-1"), null));
+
+        assertEquals(Integer.valueOf(4), response.getTotal());
+        assertEquals(Integer.valueOf(1), response.getCreated());
+        assertEquals(Integer.valueOf(3), response.getFailed());
+        assertEquals(Integer.valueOf(1), response.getErrors().get(0).getIndex());
+        assertEquals("BBB222", response.getErrors().get(0).getCode());
+        assertEquals("Discount value must be at least 0.5", response.getErrors().get(0).getMessage());
+        assertEquals(Integer.valueOf(2), response.getErrors().get(1).getIndex());
+        assertEquals(Integer.valueOf(3), response.getErrors().get(2).getIndex());
+        assertNull(response.getErrors().get(2).getCode());
+    }
+
+    @Test
+    public void shouldFallBackToItemSavesWhenChunkFails() {
+        when(couponRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> {
+            Coupon coupon = invocation.getArgument(0);
+            if ("BBB222".equals(coupon.getCode())) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return coupon;
+        });
+
+        CouponBatchResponseDTO response = useCase.execute(Arrays.asList(request("AAA111"), request("BBB222")));
+
+        assertEquals(Integer.valueOf(1), response.getCreated());
+        assertEquals(Integer.valueOf(1), response.getFailed());
+        assertEquals("AAA111", response.getCoupons().get(0).getCode());
+        assertEquals(Integer.valueOf(1), response.getErrors().get(0).getIndex());
+        assertEquals("Could not persist coupon", response.getErrors().get(0).getMessage());
+        verify(couponEventRepository).append(argThat(event -> event.getType() == CouponEventType.CREATED));
+        verifyNoMoreInteractions(couponEventRepository);
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldNotAcceptEmptyBatch() {
+        useCase.execute(Collections.emptyList());
+    }
+
+    private CouponRequestDTO request(String code) {
+        return CouponRequestDTO.builder()
+            .code(code)
+            .description("Batch coupon")
+            .discountValue(new BigDecimal("5.0"))
+            .expirationDate(LocalDateTime.now().plusDays(10))
+            .published(false)
+            .build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.coupon.api.application.usecase;
 
+import com.coupon.api.application.port.CouponEventRepository;
 import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
 import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
 import com.coupon.api.domain.CouponStatus;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.dto.CouponResponseDTO;
@@ -15,6 +18,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,11 +30,21 @@ public class CreateCouponUseCaseTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
     private CreateCouponUseCase useCase;
 
     @Before
     public void setUp() {
-        useCase = new CreateCouponUseCase(couponRepository);
+        useCase = new CreateCouponUseCase(couponRepository, couponEventRepository, unitOfWork);
     }
 
     @Test
@@ -56,6 +70,7 @@ public class CreateCouponUseCaseTest {
         assertFalse(response.getRedeemed());
 
         verify(couponRepository, times(1)).save(any(Coupon.class));
+        verify(couponEventRepository, times(1)).append(any(CouponEvent.class));
     }
 
     @Test
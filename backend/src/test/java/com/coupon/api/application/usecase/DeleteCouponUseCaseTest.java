@@ -1,8 +1,11 @@
 package com.coupon.api.application.usecase;
 
+import com.coupon.api.application.port.CouponEventRepository;
 import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
 import com.coupon.api.domain.Coupon;
-import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponEventType;
 import com.coupon.api.exception.CouponAlreadyDeletedException;
 import com.coupon.api.exception.CouponNotFoundException;
 import org.junit.Before;
@@ -12,13 +15,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -27,36 +30,44 @@ public class DeleteCouponUseCaseTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
     private DeleteCouponUseCase useCase;
 
     @Before
     public void setUp() {
-        useCase = new DeleteCouponUseCase(couponRepository);
+        useCase = new DeleteCouponUseCase(couponRepository, couponEventRepository, unitOfWork);
     }
 
     @Test
     public void shouldDeleteActiveCoupon() {
         UUID couponId = UUID.randomUUID();
-        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
 
-        when(couponRepository.findByIdIncludingDeleted(couponId)).thenReturn(Optional.of(coupon));
-        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponRepository.delete(eq(couponId), any(LocalDateTime.class))).thenReturn(true);
 
         useCase.execute(couponId);
 
-        ArgumentCaptor<Coupon> captor = ArgumentCaptor.forClass(Coupon.class);
-        verify(couponRepository).save(captor.capture());
-
-        Coupon savedCoupon = captor.getValue();
-        assertEquals(CouponStatus.DELETED, savedCoupon.getStatus());
-        assertTrue(savedCoupon.isDeleted());
+        ArgumentCaptor<CouponEvent> captor = ArgumentCaptor.forClass(CouponEvent.class);
+        verify(couponRepository).delete(eq(couponId), any(LocalDateTime.class));
+        verify(couponEventRepository).append(captor.capture());
+        assertEquals(couponId, captor.getValue().getCouponId());
+        assertEquals(CouponEventType.DELETED, captor.getValue().getType());
     }
 
     @Test(expected = CouponNotFoundException.class)
     public void shouldNotDeleteNonExistentCoupon() {
         UUID couponId = UUID.randomUUID();
 
-        when(couponRepository.findByIdIncludingDeleted(couponId)).thenReturn(Optional.empty());
+        when(couponRepository.delete(eq(couponId), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepository.existsIncludingDeleted(couponId)).thenReturn(false);
 
         useCase.execute(couponId);
     }
@@ -64,46 +75,28 @@ public class DeleteCouponUseCaseTest {
     @Test(expected = CouponAlreadyDeletedException.class)
     public void shouldNotDeleteAlreadyDeletedCoupon() {
         UUID couponId = UUID.randomUUID();
-        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
-        coupon.delete();
-
-        when(couponRepository.findByIdIncludingDeleted(couponId)).thenReturn(Optional.of(coupon));
-
-        useCase.execute(couponId);
-    }
-
-    @Test
-    public void shouldCallRepositoryOnlyOnceWhenDeleting() {
-        UUID couponId = UUID.randomUUID();
-        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
 
-        when(couponRepository.findByIdIncludingDeleted(couponId)).thenReturn(Optional.of(coupon));
-        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponRepository.delete(eq(couponId), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepository.existsIncludingDeleted(couponId)).thenReturn(true);
 
-        useCase.execute(couponId);
-
-        verify(couponRepository, times(1)).findByIdIncludingDeleted(couponId);
-        verify(couponRepository, times(1)).save(any(Coupon.class));
+        try {
+            useCase.execute(couponId);
+        } finally {
+            verify(couponEventRepository, never()).append(any(CouponEvent.class));
+        }
     }
 
     @Test
-    public void shouldPreserveOtherCouponDataWhenDeleting() {
+    public void shouldDeleteWithSingleUpdateWithoutLoadingCoupon() {
         UUID couponId = UUID.randomUUID();
-        Coupon coupon = Coupon.create("ABC123", "Test coupon", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), true);
 
-        when(couponRepository.findByIdIncludingDeleted(couponId)).thenReturn(Optional.of(coupon));
-        when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponRepository.delete(eq(couponId), any(LocalDateTime.class))).thenReturn(true);
 
         useCase.execute(couponId);
 
-        ArgumentCaptor<Coupon> captor = ArgumentCaptor.forClass(Coupon.class);
-        verify(couponRepository).save(captor.capture());
-
-        Coupon savedCoupon = captor.getValue();
-        assertEquals("ABC123", savedCoupon.getCode());
-        assertEquals("Test coupon", savedCoupon.getDescription());
-        assertEquals(new BigDecimal("10.0"), savedCoupon.getDiscountValue());
-        assertTrue(savedCoupon.getPublished());
-        assertEquals(CouponStatus.DELETED, savedCoupon.getStatus());
+        verify(couponRepository, times(1)).delete(eq(couponId), any(LocalDateTime.class));
+        verify(couponRepository, never()).existsIncludingDeleted(any(UUID.class));
+        verify(couponRepository, never()).findByIdIncludingDeleted(any(UUID.class));
+        verify(couponRepository, never()).save(any(Coupon.class));
     }
 }
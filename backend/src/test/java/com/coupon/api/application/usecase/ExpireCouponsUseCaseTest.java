@@ -0,0 +1,82 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.dto.CouponExpirationRunDTO;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExpireCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    @Test
+    public void shouldSweepUntilBatchComesBackShort() {
+        ExpireCouponsUseCase useCase = new ExpireCouponsUseCase(couponRepository, couponEventRepository, unitOfWork,
+            100, Duration.ZERO, 10);
+        when(couponRepository.expireActive(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 42);
+
+        CouponExpirationRunDTO run = useCase.execute();
+
+        assertEquals(Long.valueOf(242), run.getExpired());
+        assertEquals(Integer.valueOf(3), run.getBatches());
+        verify(couponRepository, times(3)).expireActive(any(LocalDateTime.class), eq(100));
+        verify(couponEventRepository, times(3)).append(argThat(event -> event.getType() == CouponEventType.BULK_CHANGED));
+    }
+
+    @Test
+    public void shouldStopAtMaxBatchesAndKeepTotals() {
+        ExpireCouponsUseCase useCase = new ExpireCouponsUseCase(couponRepository, couponEventRepository, unitOfWork,
+            10, Duration.ZERO, 2);
+        when(couponRepository.expireActive(any(LocalDateTime.class), eq(10))).thenReturn(10);
+
+        CouponExpirationRunDTO first = useCase.execute();
+        CouponExpirationRunDTO second = useCase.execute();
+
+        assertEquals(Long.valueOf(20), first.getExpired());
+        assertEquals(Integer.valueOf(2), first.getBatches());
+        assertEquals(Long.valueOf(2), second.getTotalRuns());
+        assertEquals(Long.valueOf(40), second.getTotalExpired());
+        assertSame(second, useCase.lastRun());
+        verify(couponRepository, times(4)).expireActive(any(LocalDateTime.class), eq(10));
+    }
+
+    @Test
+    public void shouldRunSingleBatchWhenNothingIsExpired() {
+        ExpireCouponsUseCase useCase = new ExpireCouponsUseCase(couponRepository, couponEventRepository, unitOfWork,
+            10, Duration.ofSeconds(5), 5);
+        when(couponRepository.expireActive(any(LocalDateTime.class), eq(10))).thenReturn(0);
+
+        CouponExpirationRunDTO run = useCase.execute();
+
+        assertEquals(Long.valueOf(0), run.getExpired());
+        assertEquals(Integer.valueOf(1), run.getBatches());
+        verifyZeroInteractions(couponEventRepository);
+    }
+}
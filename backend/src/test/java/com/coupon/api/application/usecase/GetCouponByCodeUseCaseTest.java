@@ -0,0 +1,65 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.CouponNotFoundException;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GetCouponByCodeUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private GetCouponByCodeUseCase useCase;
+
+    @Before
+    public void setUp() {
+        useCase = new GetCouponByCodeUseCase(couponRepository);
+    }
+
+    @Test
+    public void shouldGetCouponBySanitizedCode() {
+        Coupon coupon = Coupon.create("ABC123", "Test coupon", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), false);
+
+        when(couponRepository.findViewByCode("ABC123")).thenReturn(Optional.of(CouponView.from(coupon)));
+
+        CouponResponseDTO response = useCase.execute("ABC-123");
+
+        assertEquals("ABC123", response.getCode());
+        assertEquals("Test coupon", response.getDescription());
+        verify(couponRepository, times(1)).findViewByCode("ABC123");
+    }
+
+    @Test(expected = CouponNotFoundException.class)
+    public void shouldNotGetNonExistentCode() {
+        when(couponRepository.findViewByCode("ABC123")).thenReturn(Optional.empty());
+
+        useCase.execute("ABC123");
+    }
+
+    @Test
+    public void shouldNotQueryRepositoryForMalformedCode() {
+        try {
+            useCase.execute("AB-1");
+            fail("Expected InvalidCouponException");
+        } catch (InvalidCouponException ex) {
+            verify(couponRepository, never()).findViewByCode(anyString());
+        }
+    }
+}
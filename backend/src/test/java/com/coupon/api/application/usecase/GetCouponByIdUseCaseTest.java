@@ -1,6 +1,7 @@
 package com.coupon.api.application.usecase;
 
 import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
 import com.coupon.api.domain.Coupon;
 import com.coupon.api.domain.CouponStatus;
 import com.coupon.api.dto.CouponResponseDTO;
@@ -37,7 +38,7 @@ public class GetCouponByIdUseCaseTest {
         UUID couponId = UUID.randomUUID();
         Coupon coupon = Coupon.create("ABC123", "Test coupon", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), false);
 
-        when(couponRepository.findByIdAndNotDeleted(couponId)).thenReturn(Optional.of(coupon));
+        when(couponRepository.findViewById(couponId)).thenReturn(Optional.of(CouponView.from(coupon)));
 
         CouponResponseDTO response = useCase.execute(couponId);
 
@@ -49,14 +50,14 @@ public class GetCouponByIdUseCaseTest {
         assertFalse(response.getPublished());
         assertFalse(response.getRedeemed());
 
-        verify(couponRepository, times(1)).findByIdAndNotDeleted(couponId);
+        verify(couponRepository, times(1)).findViewById(couponId);
     }
 
     @Test(expected = CouponNotFoundException.class)
     public void shouldNotGetNonExistentCoupon() {
         UUID couponId = UUID.randomUUID();
 
-        when(couponRepository.findByIdAndNotDeleted(couponId)).thenReturn(Optional.empty());
+        when(couponRepository.findViewById(couponId)).thenReturn(Optional.empty());
 
         useCase.execute(couponId);
     }
@@ -65,11 +66,11 @@ public class GetCouponByIdUseCaseTest {
     public void shouldNotGetDeletedCoupon() {
         UUID couponId = UUID.randomUUID();
 
-        when(couponRepository.findByIdAndNotDeleted(couponId)).thenReturn(Optional.empty());
+        when(couponRepository.findViewById(couponId)).thenReturn(Optional.empty());
 
         useCase.execute(couponId);
 
-        verify(couponRepository, times(1)).findByIdAndNotDeleted(couponId);
+        verify(couponRepository, times(1)).findViewById(couponId);
     }
 
     @Test
@@ -77,7 +78,7 @@ public class GetCouponByIdUseCaseTest {
         UUID couponId = UUID.randomUUID();
         Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
 
-        when(couponRepository.findByIdAndNotDeleted(couponId)).thenReturn(Optional.of(coupon));
+        when(couponRepository.findViewById(couponId)).thenReturn(Optional.of(CouponView.from(coupon)));
 
         CouponResponseDTO response = useCase.execute(couponId);
 
@@ -90,7 +91,7 @@ public class GetCouponByIdUseCaseTest {
         LocalDateTime expirationDate = LocalDateTime.now().plusDays(30);
         Coupon coupon = Coupon.create("XYZ789", "Special discount", new BigDecimal("25.5"), expirationDate, true);
 
-        when(couponRepository.findByIdAndNotDeleted(couponId)).thenReturn(Optional.of(coupon));
+        when(couponRepository.findViewById(couponId)).thenReturn(Optional.of(CouponView.from(coupon)));
 
         CouponResponseDTO response = useCase.execute(couponId);
 
@@ -0,0 +1,225 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponImportErrorWriter;
+import com.coupon.api.application.port.CouponImportJobRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponImportFormat;
+import com.coupon.api.domain.CouponImportJob;
+import com.coupon.api.domain.CouponImportStatus;
+import com.coupon.api.exception.DuplicateCouponCodeException;
+import com.coupon.api.infrastructure.imports.FileSystemCouponImportFiles;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ImportCouponsUseCaseTest {
+
+    private static final String NODE_ID = "node-1";
+    private static final String EXPIRATION = LocalDateTime.now().plusDays(30).withNano(0).toString();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponImportJobRepository jobRepository;
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    private FileSystemCouponImportFiles files;
+    private ImportCouponsUseCase useCase;
+    private CouponImportJob job;
+    private final UUID jobId = UUID.randomUUID();
+
+    @Before
+    public void setUp() {
+        files = new FileSystemCouponImportFiles(folder.getRoot().toPath(), new ObjectMapper());
+        useCase = useCase(2);
+
+        job = job();
+        when(jobRepository.save(any(CouponImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void shouldCommitRowsInChunksAndReportErrorsPerRow() throws IOException {
+        store(csv(
+            "AAA111,First,5.0",
+            "BBB222,Too small,0.1",
+            "CCC333,Third,5.0",
+            "CCC333,Repeated,5.0",
+            "DDD444,Taken,5.0"));
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(jobRepository.findActiveCodes(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<String>>getArgument(0).stream()
+                .filter("DDD444"::equals)
+                .collect(Collectors.toSet()));
+        when(couponRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        useCase.run(jobId);
+
+        assertEquals(CouponImportStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(3, job.getFailedRows());
+
+        ArgumentCaptor<List<Coupon>> chunks = chunkCaptor();
+        verify(couponRepository, times(2)).saveAll(chunks.capture());
+        assertEquals(1, chunks.getAllValues().get(0).size());
+        assertEquals("CCC333", chunks.getAllValues().get(1).get(0).getCode());
+        verify(couponEventRepository, times(2)).append(any(CouponEvent.class));
+
+        String[] errors = errors().split("\n");
+        assertEquals(4, errors.length);
+        assertTrue(errors[1].startsWith("2,BBB222,"));
+        assertEquals("4,CCC333,Duplicate code within file", errors[2]);
+        assertEquals("5,DDD444,Coupon code already exists: DDD444", errors[3]);
+    }
+
+    @Test
+    public void shouldResumeAfterLastCommittedChunk() throws IOException {
+        store(csv(
+            "AAA111,First,5.0",
+            "BBB222,Too small,0.1",
+            "CCC333,Third,5.0"));
+        try (CouponImportErrorWriter writer = files.openErrors(jobId, 0)) {
+            writer.write(2, "BBB222", "Discount value must be at least 0.5");
+            long committedOffset = writer.flush();
+            writer.write(3, "CCC333", "written before the crash, never committed");
+            writer.flush();
+            job.start();
+            job.checkpoint(2, 1, 1, committedOffset);
+        }
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(jobRepository.findActiveCodes(anyCollection())).thenReturn(Collections.emptySet());
+        when(couponRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        useCase.run(jobId);
+
+        ArgumentCaptor<List<Coupon>> chunks = chunkCaptor();
+        verify(couponRepository).saveAll(chunks.capture());
+        assertEquals(1, chunks.getValue().size());
+        assertEquals("CCC333", chunks.getValue().get(0).getCode());
+
+        assertEquals(CouponImportStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(1, job.getFailedRows());
+        assertEquals("row,code,message\n2,BBB222,Discount value must be at least 0.5\n", errors());
+    }
+
+    @Test
+    public void shouldRetryChunkWhenCodeIsClaimedConcurrently() throws IOException {
+        useCase = useCase(10);
+        store(csv("AAA111,First,5.0", "BBB222,Second,5.0"));
+        CouponImportJob reloaded = job();
+        reloaded.start();
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job), Optional.of(reloaded));
+        when(jobRepository.findActiveCodes(anyCollection()))
+            .thenReturn(Collections.emptySet())
+            .thenReturn(Collections.singleton("BBB222"));
+        when(couponRepository.saveAll(anyList()))
+            .thenThrow(new DuplicateCouponCodeException("Coupon code already exists"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        useCase.run(jobId);
+
+        assertEquals(CouponImportStatus.COMPLETED, reloaded.getStatus());
+        assertEquals(2, reloaded.getProcessedRows());
+        assertEquals(1, reloaded.getImportedRows());
+        assertEquals(1, reloaded.getFailedRows());
+        assertEquals("row,code,message\n2,BBB222,Coupon code already exists: BBB222\n", errors());
+    }
+
+    @Test
+    public void shouldFailJobWhenCsvHeaderIsIncomplete() throws IOException {
+        store("code,description\n");
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+
+        useCase.run(jobId);
+
+        assertEquals(CouponImportStatus.FAILED, job.getStatus());
+        assertEquals("Missing CSV column: discountvalue", job.getMessage());
+        verify(couponRepository, never()).saveAll(anyList());
+    }
+
+    private ImportCouponsUseCase useCase(int chunkSize) {
+        return new ImportCouponsUseCase(couponRepository, jobRepository, couponEventRepository, unitOfWork, files,
+            Runnable::run, chunkSize, NODE_ID);
+    }
+
+    private CouponImportJob job() {
+        CouponImportJob importJob = CouponImportJob.create(CouponImportFormat.CSV, NODE_ID);
+        ReflectionTestUtils.setField(importJob, "id", jobId);
+        return importJob;
+    }
+
+    private void store(String content) throws IOException {
+        files.store(jobId, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String errors() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = files.readErrors(jobId)) {
+            byte[] buffer = new byte[1024];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Coupon>> chunkCaptor() {
+        return ArgumentCaptor.forClass((Class<List<Coupon>>) (Class<?>) List.class);
+    }
+
+    private static String csv(String... rows) {
+        StringBuilder csv = new StringBuilder("code,description,discountValue,expirationDate,published\n");
+        for (String row : rows) {
+            csv.append(row).append(',').append(EXPIRATION).append(",true\n");
+        }
+        return csv.toString();
+    }
+}
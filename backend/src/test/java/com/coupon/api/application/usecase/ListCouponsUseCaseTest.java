@@ -0,0 +1,106 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponPageDTO;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ListCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private ListCouponsUseCase useCase;
+
+    private final CouponFilter filter = CouponFilter.builder().build();
+
+    @Before
+    public void setUp() {
+        useCase = new ListCouponsUseCase(couponRepository);
+    }
+
+    @Test
+    public void shouldReturnNextCursorWhenMoreCouponsExist() {
+        Coupon first = coupon("AAA111");
+        Coupon second = coupon("BBB222");
+        Coupon third = coupon("CCC333");
+
+        when(couponRepository.findPage(eq(filter), isNull(), eq(3))).thenReturn(Arrays.asList(first, second, third));
+
+        CouponPageDTO page = useCase.execute(filter, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("AAA111", page.getItems().get(0).getCode());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    public void shouldNotReturnCursorOnLastPage() {
+        when(couponRepository.findPage(eq(filter), isNull(), eq(ListCouponsUseCase.DEFAULT_LIMIT + 1)))
+            .thenReturn(Collections.singletonList(coupon("AAA111")));
+
+        CouponPageDTO page = useCase.execute(filter, null, null);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void shouldDecodeCursorIntoKeyset() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2030, 1, 2, 3, 4, 5, 6_000_000);
+        Coupon last = spy(coupon("AAA111"));
+        doReturn(id).when(last).getId();
+        doReturn(createdAt).when(last).getCreatedAt();
+
+        when(couponRepository.findPage(eq(filter), isNull(), eq(2))).thenReturn(Arrays.asList(last, coupon("BBB222")));
+        String cursor = useCase.execute(filter, null, 1).getNextCursor();
+
+        useCase.execute(filter, cursor, 1);
+
+        ArgumentCaptor<CouponCursor> captor = ArgumentCaptor.forClass(CouponCursor.class);
+        verify(couponRepository, times(2)).findPage(eq(filter), captor.capture(), eq(2));
+        assertEquals(new CouponCursor(createdAt, id), captor.getAllValues().get(1));
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectMalformedCursor() {
+        useCase.execute(filter, "not-a-cursor", 10);
+    }
+
+    @Test
+    public void shouldRejectLimitAboveMaximum() {
+        try {
+            useCase.execute(filter, null, ListCouponsUseCase.MAX_LIMIT + 1);
+            fail("Expected InvalidCouponException");
+        } catch (InvalidCouponException ex) {
+            verify(couponRepository, never()).findPage(any(), any(), anyInt());
+        }
+    }
+
+    private Coupon coupon(String code) {
+        return Coupon.create(code, "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+    }
+}
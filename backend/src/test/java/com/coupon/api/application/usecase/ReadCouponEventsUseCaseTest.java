@@ -0,0 +1,76 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.dto.CouponEventPageDTO;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReadCouponEventsUseCaseTest {
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private ReadCouponEventsUseCase useCase;
+
+    @Before
+    public void setUp() {
+        useCase = new ReadCouponEventsUseCase(couponEventRepository);
+    }
+
+    @Test
+    public void shouldReturnEventsWithCursorOfLastPosition() {
+        UUID couponId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(couponEventRepository.findPublishedAfter(10, 2)).thenReturn(Arrays.asList(
+            CouponEvent.restore(7L, couponId, CouponEventType.CREATED, CouponStatus.ACTIVE, now, 11L, now),
+            CouponEvent.restore(9L, couponId, CouponEventType.REDEEMED, CouponStatus.ACTIVE, now, 12L, now)));
+
+        CouponEventPageDTO page = useCase.execute(10, 2);
+
+        assertEquals(2, page.getEvents().size());
+        assertEquals(Long.valueOf(12), page.getNextCursor());
+        assertEquals(Long.valueOf(9), page.getEvents().get(1).getId());
+        assertEquals(CouponEventType.REDEEMED, page.getEvents().get(1).getType());
+        assertEquals(couponId, page.getEvents().get(0).getCouponId());
+    }
+
+    @Test
+    public void shouldKeepCursorWhenNothingNew() {
+        when(couponEventRepository.findPublishedAfter(5, 100)).thenReturn(Collections.emptyList());
+
+        CouponEventPageDTO page = useCase.execute(5, 100);
+
+        assertTrue(page.getEvents().isEmpty());
+        assertEquals(Long.valueOf(5), page.getNextCursor());
+    }
+
+    @Test
+    public void shouldRejectInvalidCursorOrLimit() {
+        for (long[] arguments : new long[][]{{-1, 10}, {0, 0}, {0, ReadCouponEventsUseCase.MAX_LIMIT + 1}}) {
+            try {
+                useCase.execute(arguments[0], (int) arguments[1]);
+                fail("Expected InvalidCouponException");
+            } catch (InvalidCouponException ex) {
+                verify(couponEventRepository, never()).findPublishedAfter(anyLong(), anyInt());
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.UnitOfWork;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.CouponAlreadyRedeemedException;
+import com.coupon.api.exception.CouponNotFoundException;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RedeemCouponUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    private final UnitOfWork unitOfWork = new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    private RedeemCouponUseCase useCase;
+
+    @Before
+    public void setUp() {
+        useCase = new RedeemCouponUseCase(couponRepository, couponEventRepository, unitOfWork);
+    }
+
+    @Test
+    public void shouldRedeemActiveCoupon() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
+
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.of(coupon));
+        when(couponRepository.redeem(eq(coupon.getId()), any(LocalDateTime.class))).thenReturn(true);
+
+        CouponResponseDTO response = useCase.execute("ABC123");
+
+        assertTrue(response.getRedeemed());
+        verify(couponRepository, times(1)).redeem(eq(coupon.getId()), any(LocalDateTime.class));
+        verify(couponRepository, never()).save(any(Coupon.class));
+        verify(couponEventRepository, times(1)).append(any(CouponEvent.class));
+    }
+
+    @Test(expected = CouponAlreadyRedeemedException.class)
+    public void shouldRejectRedemptionLostToConcurrentCheckout() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
+
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.of(coupon));
+        when(couponRepository.redeem(eq(coupon.getId()), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepository.findByIdAndNotDeleted(coupon.getId()))
+            .thenReturn(Optional.of(stored(coupon, CouponStatus.ACTIVE, coupon.getExpirationDate(), true)));
+
+        try {
+            useCase.execute("ABC123");
+        } finally {
+            verify(couponEventRepository, never()).append(any(CouponEvent.class));
+        }
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldReportCouponExpiredConcurrently() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
+
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.of(coupon));
+        when(couponRepository.redeem(eq(coupon.getId()), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepository.findByIdAndNotDeleted(coupon.getId()))
+            .thenReturn(Optional.of(stored(coupon, CouponStatus.INACTIVE, LocalDateTime.now().minusMinutes(1), false)));
+
+        useCase.execute("ABC123");
+    }
+
+    @Test(expected = CouponNotFoundException.class)
+    public void shouldReportCouponDeletedConcurrently() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
+
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.of(coupon));
+        when(couponRepository.redeem(eq(coupon.getId()), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepository.findByIdAndNotDeleted(coupon.getId()))
+            .thenReturn(Optional.empty());
+
+        useCase.execute("ABC123");
+    }
+
+    @Test
+    public void shouldNotChangeCouponReadBackAsRedeemable() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
+        Coupon current = stored(coupon, CouponStatus.ACTIVE, coupon.getExpirationDate(), false);
+
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.of(coupon));
+        when(couponRepository.redeem(eq(coupon.getId()), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepository.findByIdAndNotDeleted(coupon.getId())).thenReturn(Optional.of(current));
+
+        try {
+            useCase.execute("ABC123");
+            fail("Expected InvalidCouponException");
+        } catch (InvalidCouponException ex) {
+            assertFalse(current.getRedeemed());
+        }
+    }
+
+    @Test(expected = CouponNotFoundException.class)
+    public void shouldNotRedeemNonExistentCoupon() {
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.empty());
+
+        useCase.execute("ABC123");
+    }
+
+    @Test
+    public void shouldNotRedeemCouponTwice() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), true);
+        coupon.redeem();
+
+        when(couponRepository.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.of(coupon));
+
+        try {
+            useCase.execute("ABC123");
+            fail("Expected CouponAlreadyRedeemedException");
+        } catch (CouponAlreadyRedeemedException ex) {
+            verify(couponRepository, never()).redeem(any(), any(LocalDateTime.class));
+        }
+    }
+
+    private static Coupon stored(Coupon coupon, CouponStatus status, LocalDateTime expirationDate, boolean redeemed) {
+        return Coupon.restore(coupon.getId(), coupon.getCode(), coupon.getDescription(), coupon.getDiscountValue(),
+            expirationDate, status, coupon.getPublished(), redeemed, coupon.getCreatedAt(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,97 @@
+package com.coupon.api.application.usecase;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.application.port.CouponEventSink;
+import com.coupon.api.domain.CouponEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RelayCouponEventsUseCaseTest {
+
+    @Mock
+    private CouponEventRepository couponEventRepository;
+
+    @Mock
+    private CouponEventSink couponEventSink;
+
+    private RelayCouponEventsUseCase useCase;
+
+    @Before
+    public void setUp() {
+        useCase = new RelayCouponEventsUseCase(couponEventRepository, couponEventSink, 2, 10);
+    }
+
+    @Test
+    public void shouldPublishBeforeMarkingEachBatch() {
+        List<CouponEvent> full = events(2);
+        List<CouponEvent> partial = events(1);
+        when(couponEventRepository.findUnpublished(2)).thenReturn(full, partial);
+
+        assertEquals(3, useCase.execute());
+
+        InOrder inOrder = inOrder(couponEventSink, couponEventRepository);
+        inOrder.verify(couponEventSink).publish(full);
+        inOrder.verify(couponEventRepository).markPublished(eq(full), any(LocalDateTime.class));
+        inOrder.verify(couponEventSink).publish(partial);
+        inOrder.verify(couponEventRepository).markPublished(eq(partial), any(LocalDateTime.class));
+        verify(couponEventRepository, times(2)).findUnpublished(2);
+    }
+
+    @Test
+    public void shouldDoNothingWithoutPendingEvents() {
+        when(couponEventRepository.findUnpublished(2)).thenReturn(Collections.emptyList());
+
+        assertEquals(0, useCase.execute());
+
+        verifyZeroInteractions(couponEventSink);
+        verify(couponEventRepository, never()).markPublished(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void shouldLeaveBatchUnpublishedWhenSinkFails() {
+        List<CouponEvent> batch = events(2);
+        when(couponEventRepository.findUnpublished(2)).thenReturn(batch);
+        doThrow(new IllegalStateException("sink down")).when(couponEventSink).publish(batch);
+
+        try {
+            useCase.execute();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            verify(couponEventRepository, never()).markPublished(anyList(), any(LocalDateTime.class));
+        }
+    }
+
+    @Test
+    public void shouldStopAfterMaxBatches() {
+        useCase = new RelayCouponEventsUseCase(couponEventRepository, couponEventSink, 2, 3);
+        when(couponEventRepository.findUnpublished(2)).thenAnswer(invocation -> events(2));
+
+        assertEquals(6, useCase.execute());
+
+        verify(couponEventSink, times(3)).publish(anyList());
+    }
+
+    private static List<CouponEvent> events(int count) {
+        List<CouponEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(CouponEvent.deleted(UUID.randomUUID(), LocalDateTime.now()));
+        }
+        return events;
+    }
+}
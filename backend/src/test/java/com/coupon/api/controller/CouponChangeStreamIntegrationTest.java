@@ -0,0 +1,113 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.application.usecase.RelayCouponEventsUseCase;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.infrastructure.events.CouponChangeBus;
+import com.coupon.api.infrastructure.persistence.CouponEventJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "coupon.outbox.changes-poll-interval=100ms")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CouponChangeStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponEventJpaRepository couponEventRepository;
+
+    @Autowired
+    private RelayCouponEventsUseCase relayCouponEventsUseCase;
+
+    @Autowired
+    private CouponChangeBus couponChangeBus;
+
+    @Before
+    public void awaitFirstPoll() throws InterruptedException {
+        while (couponChangeBus.position() < 0) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void shouldResyncNewClientAndStreamRelayedChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/coupon/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(stream.getResponse(), "event:resync");
+
+        String id = createCoupon("SSE-001");
+        relayCouponEventsUseCase.execute();
+
+        String content = awaitContent(stream.getResponse(), id);
+        assertTrue(content.contains("event:change"));
+        assertTrue(content.contains("id:" + couponEventRepository.findMaxStreamPosition()));
+    }
+
+    @Test(timeout = 30_000)
+    public void shouldReplayChangesMissedSinceLastEventId() throws Exception {
+        createCoupon("SSE-002");
+        relayCouponEventsUseCase.execute();
+        long lastSeen = couponEventRepository.findMaxStreamPosition();
+
+        String missed = createCoupon("SSE-003");
+        relayCouponEventsUseCase.execute();
+
+        MvcResult stream = mockMvc.perform(get("/coupon/changes").header("Last-Event-ID", lastSeen))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitContent(stream.getResponse(), missed);
+        assertTrue(content.contains("id:" + (lastSeen + 1)));
+        assertFalse(content.contains("event:resync"));
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        String content = response.getContentAsString();
+        while (!content.contains(expected)) {
+            Thread.sleep(50);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    private String createCoupon(String code) throws Exception {
+        CouponRequestDTO request = CouponRequestDTO.builder()
+                .code(code)
+                .description("Change stream test")
+                .discountValue(new BigDecimal("5.0"))
+                .expirationDate(LocalDateTime.now().plusDays(1))
+                .published(true)
+                .build();
+        MvcResult result = mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+}
@@ -2,6 +2,7 @@ package com.coupon.api.controller;
 
 import com.coupon.api.domain.Coupon;
 import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.dto.CouponBulkDeleteRequestDTO;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.infrastructure.persistence.CouponJpaRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,9 +16,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
@@ -146,6 +149,43 @@ public class CouponControllerIntegrationTest {
                 .andExpect(jsonPath("$.message", is("Validation failed")));
     }
 
+    @Test
+    public void testCreateCouponBatch_ReportsPerItemErrors() throws Exception {
+        CouponRequestDTO valid = CouponRequestDTO.builder()
+                .code("BAT001")
+                .description("Batch coupon")
+                .discountValue(new BigDecimal("5.0"))
+                .expirationDate(LocalDateTime.now().plusDays(30))
+                .build();
+        CouponRequestDTO invalid = CouponRequestDTO.builder()
+                .code("AB-12")
+                .description("Invalid batch coupon")
+                .discountValue(new BigDecimal("5.0"))
+                .expirationDate(LocalDateTime.now().plusDays(30))
+                .build();
+
+        mockMvc.perform(post("/coupon/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(valid, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.coupons[0].code", is("BAT001")))
+                .andExpect(jsonPath("$.errors[0].index", is(1)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("6 alphanumeric characters")));
+
+        assertEquals(1, couponRepository.count());
+    }
+
+    @Test
+    public void testCreateCouponBatch_Empty() throws Exception {
+        mockMvc.perform(post("/coupon/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     public void testGetCouponById_Success() throws Exception {
         Coupon coupon = createAndSaveCoupon();
@@ -176,6 +216,177 @@ public class CouponControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void testCreateCoupon_DuplicateCode() throws Exception {
+        createAndSaveCoupon();
+
+        CouponRequestDTO requestDTO = CouponRequestDTO.builder()
+                .code("ABC-123")
+                .description("Duplicate coupon")
+                .discountValue(new BigDecimal("15.0"))
+                .expirationDate(LocalDateTime.now().plusDays(30))
+                .build();
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString("already exists")));
+    }
+
+    @Test
+    public void testCreateCoupon_CodeOfDeletedCouponCanBeReused() throws Exception {
+        Coupon coupon = createAndSaveCoupon();
+        coupon.delete();
+        couponRepository.save(coupon);
+
+        CouponRequestDTO requestDTO = CouponRequestDTO.builder()
+                .code("ABC123")
+                .description("Reused code")
+                .discountValue(new BigDecimal("15.0"))
+                .expirationDate(LocalDateTime.now().plusDays(30))
+                .build();
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    public void testGetCouponByCode_Success() throws Exception {
+        Coupon coupon = createAndSaveCoupon();
+
+        mockMvc.perform(get("/coupon/code/ABC123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(coupon.getId().toString())))
+                .andExpect(jsonPath("$.code", is("ABC123")));
+    }
+
+    @Test
+    public void testGetCouponByCode_DeletedCouponNotFound() throws Exception {
+        Coupon coupon = createAndSaveCoupon();
+        coupon.delete();
+        couponRepository.save(coupon);
+
+        mockMvc.perform(get("/coupon/code/ABC123"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testRedeemCoupon_Success() throws Exception {
+        Coupon coupon = createAndSaveCoupon();
+
+        mockMvc.perform(post("/coupon/code/ABC123/redeem"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.redeemed", is(true)));
+
+        assertTrue(couponRepository.findById(coupon.getId()).get().getRedeemed());
+    }
+
+    @Test
+    public void testRedeemCoupon_AlreadyRedeemed() throws Exception {
+        createAndSaveCoupon();
+
+        mockMvc.perform(post("/coupon/code/ABC123/redeem"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/coupon/code/ABC123/redeem"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("already redeemed")));
+    }
+
+    @Test
+    public void testListCoupons_FollowsCursorAcrossPages() throws Exception {
+        couponRepository.save(Coupon.create("LST001", "First", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true));
+        couponRepository.save(Coupon.create("LST002", "Second", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), false));
+        couponRepository.save(Coupon.create("LST003", "Third", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true));
+
+        String firstPage = mockMvc.perform(get("/coupon").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/coupon").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    public void testListCoupons_Filters() throws Exception {
+        couponRepository.save(Coupon.create("FLT001", "Published", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true));
+        couponRepository.save(Coupon.create("FLT002", "Draft", new BigDecimal("5.0"), LocalDateTime.now().plusDays(50), false));
+        Coupon deleted = Coupon.create("FLT003", "Deleted", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true);
+        deleted.delete();
+        couponRepository.save(deleted);
+
+        mockMvc.perform(get("/coupon").param("published", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].code", is("FLT001")));
+
+        mockMvc.perform(get("/coupon").param("expiresFrom", LocalDateTime.now().plusDays(10).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].code", is("FLT002")));
+    }
+
+    @Test
+    public void testListCoupons_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/coupon").param("cursor", "garbage"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    public void testExportCoupons_Ndjson() throws Exception {
+        couponRepository.save(Coupon.create("EXP001", "First", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true));
+        couponRepository.save(Coupon.create("EXP002", "Second", new BigDecimal("7.5"), LocalDateTime.now().plusDays(5), false));
+
+        MvcResult result = mockMvc.perform(get("/coupon/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("EXP001", objectMapper.readTree(lines[0]).get("code").asText());
+        assertEquals("EXP002", objectMapper.readTree(lines[1]).get("code").asText());
+    }
+
+    @Test
+    public void testExportCoupons_CsvEscapesDescription() throws Exception {
+        couponRepository.save(Coupon.create("CSV001", "Half, \"price\"", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true));
+        Coupon deleted = Coupon.create("CSV002", "Deleted", new BigDecimal("5.0"), LocalDateTime.now().plusDays(5), true);
+        deleted.delete();
+        couponRepository.save(deleted);
+
+        MvcResult result = mockMvc.perform(get("/coupon/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,code,description"));
+        assertTrue(lines[1].contains(",CSV001,\"Half, \"\"price\"\"\",5.00,"));
+    }
+
+    @Test
+    public void testExportCoupons_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/coupon/export").param("format", "xml"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     public void testDeleteCoupon_Success() throws Exception {
         Coupon coupon = createAndSaveCoupon();
@@ -208,6 +419,59 @@ public class CouponControllerIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("already deleted")));
     }
 
+    @Test
+    public void testBulkDeleteCoupons_ByIds() throws Exception {
+        Coupon active = couponRepository.save(Coupon.create("BLK001", "Bulk", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), false));
+        Coupon deleted = Coupon.create("BLK002", "Bulk", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), false);
+        deleted.delete();
+        couponRepository.save(deleted);
+        CouponBulkDeleteRequestDTO requestDTO = CouponBulkDeleteRequestDTO.builder()
+                .ids(Arrays.asList(active.getId(), deleted.getId(), UUID.randomUUID(), active.getId()))
+                .build();
+
+        mockMvc.perform(post("/coupon/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(1)))
+                .andExpect(jsonPath("$.alreadyDeleted", is(1)))
+                .andExpect(jsonPath("$.notFound", is(1)));
+
+        assertEquals(CouponStatus.DELETED, couponRepository.findById(active.getId()).get().getStatus());
+        assertNull(couponRepository.findById(active.getId()).get().getActiveCodeKey());
+    }
+
+    @Test
+    public void testBulkDeleteCoupons_ByFilter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            couponRepository.save(Coupon.create(String.format("CMP%03d", i), "Campaign", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), true));
+        }
+        couponRepository.save(Coupon.create("CMQ000", "Other", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), true));
+        CouponBulkDeleteRequestDTO requestDTO = CouponBulkDeleteRequestDTO.builder()
+                .codePrefix("CMP")
+                .published(true)
+                .build();
+
+        mockMvc.perform(post("/coupon/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", is(3)));
+
+        mockMvc.perform(get("/coupon/code/CMP001"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/coupon/code/CMQ000"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testBulkDeleteCoupons_WithoutCriteria() throws Exception {
+        mockMvc.perform(post("/coupon/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     private Coupon createAndSaveCoupon() {
         Coupon coupon = Coupon.create("ABC123", "Test coupon", new BigDecimal("10.0"), LocalDateTime.now().plusDays(30), false);
         return couponRepository.save(coupon);
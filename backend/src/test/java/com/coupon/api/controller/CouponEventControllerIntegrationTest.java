@@ -0,0 +1,125 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.application.usecase.RelayCouponEventsUseCase;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.infrastructure.events.CouponEventLongPoll;
+import com.coupon.api.infrastructure.persistence.CouponEventJpaRepository;
+import com.coupon.api.infrastructure.persistence.CouponJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CouponEventControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Autowired
+    private CouponEventJpaRepository couponEventRepository;
+
+    @Autowired
+    private RelayCouponEventsUseCase relayCouponEventsUseCase;
+
+    @Autowired
+    private CouponEventLongPoll couponEventLongPoll;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAll();
+        couponEventRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldStreamCreateRedeemAndDeleteEventsAfterRelay() throws Exception {
+        String id = createCoupon("EV-001");
+        mockMvc.perform(post("/coupon/code/EV001/redeem")).andExpect(status().isOk());
+        mockMvc.perform(delete("/coupon/{id}", id)).andExpect(status().isNoContent());
+
+        MvcResult beforeRelay = mockMvc.perform(get("/coupon/events").param("waitSeconds", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(beforeRelay))
+                .andExpect(jsonPath("$.events", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor", is(0)));
+
+        assertEquals(3, relayCouponEventsUseCase.execute());
+
+        MvcResult started = mockMvc.perform(get("/coupon/events").param("after", "0").param("waitSeconds", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events", hasSize(3)))
+                .andExpect(jsonPath("$.events[*].type", contains("CREATED", "REDEEMED", "DELETED")))
+                .andExpect(jsonPath("$.events[*].couponId", everyItem(is(id))))
+                .andExpect(jsonPath("$.events[2].status", is("DELETED")))
+                .andExpect(jsonPath("$.nextCursor", is(3)));
+    }
+
+    @Test
+    public void shouldParkLongPollUntilRelayPublishes() throws Exception {
+        MvcResult started = mockMvc.perform(get("/coupon/events").param("after", "0").param("waitSeconds", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, couponEventLongPoll.waiting());
+
+        String id = createCoupon("EV-002");
+        relayCouponEventsUseCase.execute();
+        couponEventLongPoll.signal();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events", hasSize(1)))
+                .andExpect(jsonPath("$.events[0].couponId", is(id)))
+                .andExpect(jsonPath("$.events[0].type", is("CREATED")));
+    }
+
+    @Test
+    public void shouldRejectInvalidLimit() throws Exception {
+        mockMvc.perform(get("/coupon/events").param("limit", "0"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private String createCoupon(String code) throws Exception {
+        CouponRequestDTO request = CouponRequestDTO.builder()
+                .code(code)
+                .description("Event test")
+                .discountValue(new BigDecimal("5.0"))
+                .expirationDate(LocalDateTime.now().plusDays(1))
+                .published(true)
+                .build();
+        MvcResult result = mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+}
@@ -0,0 +1,125 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.domain.CouponImportStatus;
+import com.coupon.api.infrastructure.persistence.CouponJpaRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CouponImportControllerIntegrationTest {
+
+    private static final String EXPIRATION = LocalDateTime.now().plusDays(30)
+            .format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAll();
+    }
+
+    @Test
+    public void testImportCsv_ReportsProgressAndErrors() throws Exception {
+        String csv = "code,description,discountValue,expirationDate,published\n" +
+                "IMP001,First,5.0," + EXPIRATION + ",true\n" +
+                "IMP002,Too small,0.1," + EXPIRATION + ",true\n" +
+                "IMP003,\"Third, quoted\",7.5," + EXPIRATION + ",false\n";
+
+        JsonNode job = upload(new MockMultipartFile("file", "coupons.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8)));
+        JsonNode finished = awaitFinished(job.get("id").asText());
+
+        assertEquals(CouponImportStatus.COMPLETED.name(), finished.get("status").asText());
+        assertEquals(3, finished.get("processedRows").asLong());
+        assertEquals(2, finished.get("importedRows").asLong());
+        assertEquals(1, finished.get("failedRows").asLong());
+        assertTrue(couponRepository.findByCodeAndNotDeleted("IMP003").isPresent());
+
+        mockMvc.perform(get("/coupon/import/{id}/errors", job.get("id").asText()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "row,code,message\n2,IMP002,Discount value must be at least 0.5\n"));
+    }
+
+    @Test
+    public void testImportNdjson_SkipsExistingCodes() throws Exception {
+        String expiration = EXPIRATION + ".000Z";
+        String ndjson = "{\"code\":\"NDJ001\",\"description\":\"First\",\"discountValue\":5.0,\"expirationDate\":\"" + expiration + "\"}\n" +
+                "{\"code\":\"NDJ001\",\"description\":\"Again\",\"discountValue\":5.0,\"expirationDate\":\"" + expiration + "\"}\n" +
+                "not json\n";
+
+        JsonNode job = upload(new MockMultipartFile("file", "coupons.ndjson", "application/x-ndjson",
+                ndjson.getBytes(StandardCharsets.UTF_8)));
+        JsonNode finished = awaitFinished(job.get("id").asText());
+
+        assertEquals(CouponImportStatus.COMPLETED.name(), finished.get("status").asText());
+        assertEquals(1, finished.get("importedRows").asLong());
+        assertEquals(2, finished.get("failedRows").asLong());
+    }
+
+    @Test
+    public void testImport_UnsupportedFormat() throws Exception {
+        mockMvc.perform(multipart("/coupon/import")
+                .file(new MockMultipartFile("file", "coupons.xml", "text/xml", new byte[0])))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    public void testGetImportJob_NotFound() throws Exception {
+        mockMvc.perform(get("/coupon/import/{id}", "00000000-0000-0000-0000-000000000000"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", containsString("Import job not found")));
+    }
+
+    private JsonNode upload(MockMultipartFile file) throws Exception {
+        String body = mockMvc.perform(multipart("/coupon/import").file(file))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode awaitFinished(String id) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/coupon/import/{id}", id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(body);
+            String status = job.get("status").asText();
+            if (CouponImportStatus.COMPLETED.name().equals(status) || CouponImportStatus.FAILED.name().equals(status)) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        fail("Import job " + id + " did not finish");
+        return null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.infrastructure.persistence.CouponJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReactiveCouponControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldCreateCouponAsynchronously() throws Exception {
+        CouponRequestDTO requestDTO = CouponRequestDTO.builder()
+                .code("RX-001")
+                .description("Reactive coupon")
+                .discountValue(new BigDecimal("12.5"))
+                .expirationDate(LocalDateTime.now().plusDays(10))
+                .published(true)
+                .build();
+
+        perform(post("/reactive/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.code", is("RX001")))
+                .andExpect(jsonPath("$.status", is("ACTIVE")));
+    }
+
+    @Test
+    public void shouldGetCouponById() throws Exception {
+        Coupon coupon = couponRepository.save(coupon("RX0002"));
+
+        perform(get("/reactive/coupon/{id}", coupon.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(coupon.getId().toString())))
+                .andExpect(jsonPath("$.code", is("RX0002")));
+    }
+
+    @Test
+    public void shouldMapUseCaseErrorsThroughExceptionHandler() throws Exception {
+        perform(get("/reactive/coupon/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void shouldCheckSeveralCodesAtOnce() throws Exception {
+        couponRepository.save(coupon("RX0003"));
+        couponRepository.save(coupon("RX0004"));
+
+        perform(post("/reactive/coupon/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList("RX0004", "NOPE00", "RX0003"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].code", is("RX0004")))
+                .andExpect(jsonPath("$[1].code", is("RX0003")));
+    }
+
+    @Test
+    public void shouldRedeemAndDeleteCoupon() throws Exception {
+        Coupon coupon = couponRepository.save(coupon("RX0005"));
+
+        perform(post("/reactive/coupon/code/RX0005/redeem"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.redeemed", is(true)));
+
+        perform(delete("/reactive/coupon/{id}", coupon.getId()))
+                .andExpect(status().isNoContent());
+    }
+
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.create(code, "Reactive test", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true);
+    }
+}
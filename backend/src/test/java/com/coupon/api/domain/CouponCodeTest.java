@@ -0,0 +1,60 @@
+package com.coupon.api.domain;
+
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CouponCodeTest {
+
+    @Test
+    public void shouldRoundTripThroughLong() {
+        CouponCode code = CouponCode.of("aB3-xY9");
+
+        assertEquals("aB3xY9", code.toString());
+        assertEquals(code, CouponCode.fromLong(code.toLong()));
+        assertEquals(code.hashCode(), CouponCode.fromLong(code.toLong()).hashCode());
+    }
+
+    @Test
+    public void shouldCoverTheWholeBase62Range() {
+        assertEquals(0L, CouponCode.of("000000").toLong());
+        assertEquals(56_800_235_583L, CouponCode.of("zzzzzz").toLong());
+        assertTrue(CouponCode.of("zzzzzz").toLong() < (1L << 36));
+    }
+
+    @Test
+    public void shouldDistinguishCase() {
+        assertNotEquals(CouponCode.of("ABCDEF"), CouponCode.of("abcdef"));
+    }
+
+    @Test
+    public void shouldOrderLikeAsciiCodes() {
+        assertTrue(CouponCode.of("000009").compareTo(CouponCode.of("00000A")) < 0);
+        assertTrue(CouponCode.of("ZZZZZZ").compareTo(CouponCode.of("aaaaaa")) < 0);
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectInvalidCode() {
+        CouponCode.of("ABC");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectKeyOutsideRange() {
+        CouponCode.fromLong(56_800_235_584L);
+    }
+
+    @Test
+    public void shouldBoundCodesSharingPrefix() {
+        assertEquals("AB0000", CouponCode.lowestWithPrefix("AB").toString());
+        assertEquals("ABzzzz", CouponCode.highestWithPrefix("AB").toString());
+        assertTrue(CouponCode.of("ABc123").compareTo(CouponCode.lowestWithPrefix("AB")) > 0);
+        assertTrue(CouponCode.of("ABc123").compareTo(CouponCode.highestWithPrefix("AB")) < 0);
+        assertTrue(CouponCode.of("AC0000").compareTo(CouponCode.highestWithPrefix("AB")) > 0);
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectPrefixWithSpecialCharacters() {
+        CouponCode.lowestWithPrefix("A-B");
+    }
+}
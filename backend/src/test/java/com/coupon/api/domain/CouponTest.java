@@ -1,6 +1,7 @@
 package com.coupon.api.domain;
 
 import com.coupon.api.exception.CouponAlreadyDeletedException;
+import com.coupon.api.exception.CouponAlreadyRedeemedException;
 import com.coupon.api.exception.InvalidCouponException;
 import org.junit.Test;
 
@@ -142,4 +143,82 @@ public class CouponTest {
 
         assertFalse(coupon.isExpired());
     }
+
+    @Test
+    public void shouldReserveActiveCodeUntilDeleted() {
+        Coupon coupon = Coupon.create("ABC-123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+
+        assertEquals(CouponCode.of("ABC123"), coupon.getActiveCodeKey());
+
+        coupon.delete();
+
+        assertNull(coupon.getActiveCodeKey());
+        assertEquals("ABC123", coupon.getCode());
+        assertEquals(CouponCode.of("ABC123"), coupon.getCodeKey());
+    }
+
+    @Test
+    public void shouldRedeemActiveCoupon() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+
+        coupon.redeem();
+
+        assertTrue(coupon.getRedeemed());
+    }
+
+    @Test(expected = CouponAlreadyRedeemedException.class)
+    public void shouldNotRedeemCouponTwice() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+
+        coupon.redeem();
+        coupon.redeem();
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldNotRedeemDeletedCoupon() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+
+        coupon.delete();
+        coupon.redeem();
+    }
+
+    @Test
+    public void shouldSanitizeCodeForLookups() {
+        assertEquals("ABC123", Coupon.sanitizeAndValidateCode(" AB-C1#23 "));
+    }
+
+    @Test
+    public void shouldReturnCleanCodeWithoutCopying() {
+        String code = "ABC123";
+
+        assertSame(code, Coupon.sanitizeAndValidateCode(code));
+    }
+
+    @Test
+    public void shouldRejectBlankCodeAsRequired() {
+        try {
+            Coupon.sanitizeAndValidateCode("   ");
+            fail("Expected InvalidCouponException");
+        } catch (InvalidCouponException ex) {
+            assertEquals("Code is required", ex.getMessage());
+        }
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldNotTreatNonAsciiLettersAsAlphanumeric() {
+        Coupon.sanitizeAndValidateCode("ÁBC123");
+    }
+
+    @Test
+    public void shouldExpireOnlyActiveCouponsPastExpirationDate() {
+        Coupon coupon = Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+
+        coupon.expire(LocalDateTime.now());
+        assertEquals(CouponStatus.ACTIVE, coupon.getStatus());
+
+        LocalDateTime later = LocalDateTime.now().plusDays(2);
+        coupon.expire(later);
+        assertEquals(CouponStatus.INACTIVE, coupon.getStatus());
+        assertEquals(later, coupon.getUpdatedAt());
+    }
 }
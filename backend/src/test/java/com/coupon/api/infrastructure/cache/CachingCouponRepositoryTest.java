@@ -0,0 +1,165 @@
+package com.coupon.api.infrastructure.cache;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingCouponRepositoryTest {
+
+    @Mock
+    private CouponRepository delegate;
+
+    private CachingCouponRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = new CachingCouponRepository(delegate, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupsFromCache() {
+        UUID couponId = UUID.randomUUID();
+        CouponView view = view();
+
+        when(delegate.findViewById(couponId)).thenReturn(Optional.of(view));
+
+        assertSame(view, repository.findViewById(couponId).orElse(null));
+        assertSame(view, repository.findViewById(couponId).orElse(null));
+
+        verify(delegate, times(1)).findViewById(couponId);
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    public void shouldNotCacheMissingCoupons() {
+        UUID couponId = UUID.randomUUID();
+
+        when(delegate.findViewById(couponId)).thenReturn(Optional.empty());
+
+        assertFalse(repository.findViewById(couponId).isPresent());
+        assertFalse(repository.findViewById(couponId).isPresent());
+
+        verify(delegate, times(2)).findViewById(couponId);
+    }
+
+    @Test
+    public void shouldNotShareEntities() {
+        UUID couponId = UUID.randomUUID();
+
+        when(delegate.findByIdAndNotDeleted(couponId)).thenReturn(Optional.of(coupon()), Optional.of(coupon()));
+
+        assertNotSame(repository.findByIdAndNotDeleted(couponId).get(), repository.findByIdAndNotDeleted(couponId).get());
+        assertEquals(0, repository.stats().requestCount());
+    }
+
+    @Test
+    public void shouldInvalidateEntryWhenCouponIsSaved() {
+        UUID couponId = UUID.randomUUID();
+        Coupon coupon = spy(coupon());
+
+        when(coupon.getId()).thenReturn(couponId);
+        when(delegate.findViewById(couponId)).thenReturn(Optional.of(view()));
+        when(delegate.save(coupon)).thenReturn(coupon);
+
+        repository.findViewById(couponId);
+        repository.save(coupon);
+        repository.findViewById(couponId);
+
+        verify(delegate, times(2)).findViewById(couponId);
+    }
+
+    @Test
+    public void shouldInvalidateEntryOnlyAfterCommit() {
+        UUID couponId = UUID.randomUUID();
+
+        when(delegate.findViewById(couponId)).thenReturn(Optional.of(view()));
+        when(delegate.redeem(eq(couponId), any(LocalDateTime.class))).thenReturn(true);
+
+        repository.findViewById(couponId);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.redeem(couponId, LocalDateTime.now());
+            repository.findViewById(couponId);
+            verify(delegate, times(1)).findViewById(couponId);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        repository.findViewById(couponId);
+
+        verify(delegate, times(2)).findViewById(couponId);
+    }
+
+    @Test
+    public void shouldInvalidateEntriesWhenCouponsAreSavedInBatch() {
+        UUID couponId = UUID.randomUUID();
+        Coupon coupon = spy(coupon());
+
+        when(coupon.getId()).thenReturn(couponId);
+        when(delegate.findViewById(couponId)).thenReturn(Optional.of(view()));
+        when(delegate.saveAll(Collections.singletonList(coupon))).thenReturn(Collections.singletonList(coupon));
+
+        repository.findViewById(couponId);
+        repository.saveAll(Collections.singletonList(coupon));
+        repository.findViewById(couponId);
+
+        verify(delegate, times(2)).findViewById(couponId);
+    }
+
+    @Test
+    public void shouldInvalidateEntryWhenCouponIsDeletedByUpdate() {
+        UUID couponId = UUID.randomUUID();
+
+        when(delegate.findViewById(couponId)).thenReturn(Optional.of(view()), Optional.empty());
+        when(delegate.delete(eq(couponId), any(LocalDateTime.class))).thenReturn(true);
+
+        repository.findViewById(couponId);
+        repository.delete(couponId, LocalDateTime.now());
+
+        assertFalse(repository.findViewById(couponId).isPresent());
+        verify(delegate, times(2)).findViewById(couponId);
+    }
+
+    @Test
+    public void shouldBypassCacheForDeleteLookups() {
+        UUID couponId = UUID.randomUUID();
+
+        when(delegate.findByIdIncludingDeleted(couponId)).thenReturn(Optional.empty());
+
+        repository.findByIdIncludingDeleted(couponId);
+        repository.findByIdIncludingDeleted(couponId);
+
+        verify(delegate, times(2)).findByIdIncludingDeleted(couponId);
+        assertEquals(0, repository.stats().requestCount());
+    }
+
+    private CouponView view() {
+        return CouponView.from(coupon());
+    }
+
+    private Coupon coupon() {
+        return Coupon.create("ABC123", "Test", new BigDecimal("1.0"), LocalDateTime.now().plusDays(1), false);
+    }
+}
@@ -0,0 +1,86 @@
+package com.coupon.api.infrastructure.concurrency;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @Before
+    public void setUp() {
+        dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    public void shouldReleasePermitOnceWhenConnectionIsClosed() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection limited = dataSource.getConnection();
+        assertEquals(1, dataSource.availablePermits());
+
+        limited.close();
+        limited.close();
+
+        assertEquals(2, dataSource.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    public void shouldTimeOutWhenAllPermitsAreTaken() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        try {
+            dataSource.getConnection();
+            fail("Expected a permit timeout");
+        } catch (SQLTransientConnectionException ex) {
+            assertEquals("Timed out waiting for a database connection permit", ex.getMessage());
+        }
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    public void shouldReturnPermitWhenThePoolFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        try {
+            dataSource.getConnection();
+            fail("Expected the pool failure");
+        } catch (SQLException ex) {
+            assertEquals("pool exhausted", ex.getMessage());
+        }
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    public void shouldDelegateOtherCalls() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        Connection limited = dataSource.getConnection();
+
+        assertTrue(limited.getAutoCommit());
+        assertEquals(limited, limited);
+    }
+}
@@ -0,0 +1,250 @@
+package com.coupon.api.infrastructure.events;
+
+import com.coupon.api.application.port.CouponEventRepository;
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.dto.CouponChangeDTO;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CouponChangeBusTest {
+
+    private static final String RESYNC = "resync";
+
+    private final CouponEventRepository couponEventRepository = mock(CouponEventRepository.class);
+
+    @Test
+    public void shouldDeliverChangesInOrder() {
+        CouponChangeBus bus = bus(8, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        bus.subscribe(subscriber, 0L);
+        UUID couponId = UUID.randomUUID();
+        LocalDateTime occurredAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        bus.publish(Arrays.asList(
+            event(couponId, CouponEventType.CREATED, CouponStatus.ACTIVE, occurredAt),
+            event(couponId, CouponEventType.DELETED, CouponStatus.DELETED, occurredAt.plusMinutes(1))));
+
+        assertEquals(Arrays.asList(couponId + " ACTIVE", couponId + " DELETED"), subscriber.received);
+        assertEquals(occurredAt.plusMinutes(1), subscriber.last.getUpdatedAt());
+        assertEquals(0, bus.resyncs());
+    }
+
+    @Test
+    public void shouldDropBufferedChangesAndResyncWhenSubscriberFallsBehind() {
+        Queue<Runnable> pending = new ArrayDeque<>();
+        CouponChangeBus bus = bus(2, pending::add);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        bus.subscribe(subscriber, 0L);
+        List<CouponEvent> events = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CouponEvent event = event(UUID.randomUUID(), CouponEventType.CREATED, CouponStatus.ACTIVE, LocalDateTime.now());
+            events.add(event);
+            expected.add(event.getCouponId() + " ACTIVE");
+        }
+
+        bus.publish(events);
+        while (!pending.isEmpty()) {
+            pending.poll().run();
+        }
+
+        assertEquals(Arrays.asList(RESYNC, expected.get(3), expected.get(4)), subscriber.received);
+        assertEquals(1, bus.resyncs());
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldNotBlockPublisherOnStuckSubscriber() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CouponChangeBus bus = bus(2, executor);
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onChange(CouponChangeDTO change) {
+                stuck.countDown();
+                awaitUninterruptibly(release);
+                super.onChange(change);
+            }
+        };
+        bus.subscribe(subscriber, 0L);
+        bus.publish(Collections.singletonList(event(UUID.randomUUID(), CouponEventType.CREATED, CouponStatus.ACTIVE,
+            LocalDateTime.now())));
+        stuck.await();
+
+        for (int i = 0; i < 1_000; i++) {
+            bus.publish(Collections.singletonList(event(UUID.randomUUID(), CouponEventType.CREATED,
+                CouponStatus.ACTIVE, LocalDateTime.now())));
+        }
+        release.countDown();
+        while (subscriber.received.size() < 3) {
+            Thread.sleep(10);
+        }
+        executor.shutdown();
+
+        assertEquals(1, bus.resyncs());
+        assertEquals(RESYNC, subscriber.received.get(1));
+        assertEquals(3, subscriber.received.size());
+    }
+
+    @Test
+    public void shouldCancelSubscriptionWhenSubscriberFails() {
+        CouponChangeBus bus = bus(8, Runnable::run);
+        bus.subscribe(new CouponChangeBus.Subscriber() {
+            @Override
+            public void onChange(CouponChangeDTO change) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void onResync(Long position) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        }, 0L);
+        RecordingSubscriber other = new RecordingSubscriber();
+        CouponChangeBus.Subscription cancelled = bus.subscribe(other, 0L);
+        cancelled.cancel();
+        assertEquals(1, bus.subscribers());
+
+        bus.publish(Collections.singletonList(event(UUID.randomUUID(), CouponEventType.CREATED, CouponStatus.ACTIVE,
+            LocalDateTime.now())));
+
+        assertEquals(0, bus.subscribers());
+        assertTrue(other.received.isEmpty());
+    }
+
+    @Test
+    public void shouldResyncSubscriberWithoutPosition() {
+        CouponChangeBus bus = bus(8, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        bus.subscribe(subscriber, null);
+
+        assertEquals(Collections.singletonList(RESYNC), subscriber.received);
+        assertEquals(0, bus.resyncs());
+    }
+
+    @Test
+    public void shouldPublishEventsRelayedSinceLastPoll() {
+        CouponChangeBus bus = bus(2, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        bus.subscribe(subscriber, 0L);
+        CouponEvent first = published(1);
+        CouponEvent second = published(2);
+        CouponEvent third = published(3);
+        when(couponEventRepository.findPublishedAfter(0, 2)).thenReturn(Arrays.asList(first, second));
+        when(couponEventRepository.findPublishedAfter(2, 2)).thenReturn(Collections.singletonList(third));
+
+        assertEquals(3, bus.poll());
+
+        assertEquals(Arrays.asList(first.getCouponId() + " ACTIVE", second.getCouponId() + " ACTIVE",
+            third.getCouponId() + " ACTIVE"), subscriber.received);
+        assertEquals(Long.valueOf(3), subscriber.last.getPosition());
+    }
+
+    @Test
+    public void shouldReplayMissedEventsAndSkipThemWhenPublishedAgain() {
+        CouponChangeBus bus = bus(8, Runnable::run);
+        CouponEvent missed = published(1);
+        CouponEvent live = published(2);
+        bus.publish(Collections.singletonList(live));
+        when(couponEventRepository.findPublishedAfter(0, 9)).thenReturn(Arrays.asList(missed, live));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        bus.subscribe(subscriber, 0L);
+        bus.publish(Collections.singletonList(live));
+
+        assertEquals(Arrays.asList(missed.getCouponId() + " ACTIVE", live.getCouponId() + " ACTIVE"),
+            subscriber.received);
+    }
+
+    @Test
+    public void shouldResyncSubscriberTooFarBehind() {
+        CouponChangeBus bus = bus(2, Runnable::run);
+        bus.publish(Collections.singletonList(published(3)));
+        when(couponEventRepository.findPublishedAfter(0, 3))
+            .thenReturn(Arrays.asList(published(1), published(2), published(3)));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        bus.subscribe(subscriber, 0L);
+
+        assertEquals(Collections.singletonList(RESYNC), subscriber.received);
+        assertEquals(1, bus.resyncs());
+    }
+
+    @Test
+    public void shouldResyncSubscribersInPlaceOfBulkChange() {
+        CouponChangeBus bus = bus(8, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        bus.subscribe(subscriber, 0L);
+        CouponEvent before = published(1);
+        CouponEvent after = published(3);
+
+        bus.publish(Arrays.asList(before,
+            CouponEvent.restore(2L, null, CouponEventType.BULK_CHANGED, null, LocalDateTime.now(), 2L, LocalDateTime.now()),
+            after));
+
+        assertEquals(Arrays.asList(before.getCouponId() + " ACTIVE", RESYNC, after.getCouponId() + " ACTIVE"),
+            subscriber.received);
+        assertEquals(0, bus.resyncs());
+    }
+
+    private CouponChangeBus bus(int bufferSize, Executor executor) {
+        CouponChangeBus bus = new CouponChangeBus(couponEventRepository, bufferSize, executor);
+        when(couponEventRepository.lastPosition()).thenReturn(0L);
+        bus.poll();
+        return bus;
+    }
+
+    private static CouponEvent published(long position) {
+        return CouponEvent.restore(position, UUID.randomUUID(), CouponEventType.CREATED, CouponStatus.ACTIVE,
+            LocalDateTime.now(), position, LocalDateTime.now());
+    }
+
+    private static CouponEvent event(UUID couponId, CouponEventType type, CouponStatus status,
+                                     LocalDateTime occurredAt) {
+        return CouponEvent.restore(null, couponId, type, status, occurredAt, null, null);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSubscriber implements CouponChangeBus.Subscriber {
+
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        volatile CouponChangeDTO last;
+
+        @Override
+        public void onChange(CouponChangeDTO change) {
+            last = change;
+            received.add(change.getId() + " " + change.getStatus());
+        }
+
+        @Override
+        public void onResync(Long position) {
+            received.add(RESYNC);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.coupon.api.infrastructure.events;
+
+import com.coupon.api.domain.CouponEvent;
+import com.coupon.api.domain.CouponEventType;
+import com.coupon.api.domain.CouponStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class FileCouponEventSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldAppendOneJsonLinePerEventAcrossBatches() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("events/coupon-events.ndjson");
+        FileCouponEventSink sink = new FileCouponEventSink(file, objectMapper);
+        UUID couponId = UUID.randomUUID();
+        LocalDateTime occurredAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        sink.publish(Arrays.asList(
+            event(1L, couponId, CouponEventType.CREATED, CouponStatus.ACTIVE, occurredAt),
+            event(2L, couponId, CouponEventType.REDEEMED, CouponStatus.ACTIVE, occurredAt)));
+        sink.publish(Collections.singletonList(
+            event(3L, couponId, CouponEventType.DELETED, CouponStatus.DELETED, occurredAt)));
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        JsonNode last = objectMapper.readTree(lines.get(2));
+        assertEquals(3, last.get("id").asLong());
+        assertEquals(couponId.toString(), last.get("couponId").asText());
+        assertEquals("DELETED", last.get("type").asText());
+        assertEquals("DELETED", last.get("status").asText());
+        assertEquals("2030-01-01T10:00", last.get("occurredAt").asText());
+    }
+
+    private static CouponEvent event(Long id, UUID couponId, CouponEventType type, CouponStatus status,
+                                     LocalDateTime occurredAt) {
+        return CouponEvent.restore(id, couponId, type, status, occurredAt, null, null);
+    }
+}
@@ -0,0 +1,123 @@
+package com.coupon.api.infrastructure.filter;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CodeFilteringCouponRepositoryTest {
+
+    @Mock
+    private CouponRepository delegate;
+
+    private CouponCodeFilter codeFilter;
+    private CodeFilteringCouponRepository repository;
+
+    @Before
+    public void setUp() {
+        codeFilter = new CouponCodeFilter(delegate, Runnable::run, 1_000, 0.01, 0.5);
+        repository = new CodeFilteringCouponRepository(delegate, codeFilter);
+    }
+
+    @Test
+    public void shouldPassLookupsThroughUntilTheFilterIsBuilt() {
+        when(delegate.findByCodeAndNotDeleted("ABC123")).thenReturn(Optional.empty());
+
+        assertFalse(repository.findByCodeAndNotDeleted("ABC123").isPresent());
+
+        verify(delegate).findByCodeAndNotDeleted("ABC123");
+        assertEquals(0, codeFilter.falsePositives());
+    }
+
+    @Test
+    public void shouldAnswerUnknownCodesWithoutTheDelegate() {
+        Coupon existing = coupon("LIVE01");
+        streamCodes(existing);
+        codeFilter.rebuild();
+
+        when(delegate.findByCodeAndNotDeleted("LIVE01")).thenReturn(Optional.of(existing));
+
+        assertFalse(repository.findByCodeAndNotDeleted("TYPO01").isPresent());
+        assertTrue(repository.findByCodeAndNotDeleted("LIVE01").isPresent());
+
+        verify(delegate, never()).findByCodeAndNotDeleted("TYPO01");
+        assertEquals(1, codeFilter.negatives());
+    }
+
+    @Test
+    public void shouldAddSavedCodes() {
+        streamCodes();
+        codeFilter.rebuild();
+        Coupon coupon = coupon("NEW001");
+
+        when(delegate.save(coupon)).thenReturn(coupon);
+        when(delegate.findByCodeAndNotDeleted("NEW001")).thenReturn(Optional.of(coupon));
+
+        repository.save(coupon);
+
+        assertTrue(repository.findByCodeAndNotDeleted("NEW001").isPresent());
+        assertEquals(1, codeFilter.insertions());
+    }
+
+    @Test
+    public void shouldRebuildOnceDeletedCodesGoStale() {
+        Coupon kept = coupon("KEEP01");
+        Coupon deleted = coupon("GONE01");
+        streamCodes(kept, deleted);
+        codeFilter.rebuild();
+        deleted.delete();
+
+        when(delegate.save(deleted)).thenReturn(deleted);
+        streamCodes(kept);
+
+        repository.save(deleted);
+        repository.save(deleted);
+
+        assertEquals(2, codeFilter.rebuilds());
+        assertEquals(1, codeFilter.insertions());
+        assertFalse(repository.findByCodeAndNotDeleted("GONE01").isPresent());
+        verify(delegate, never()).findByCodeAndNotDeleted("GONE01");
+    }
+
+    @Test
+    public void shouldCountFalsePositives() {
+        streamCodes(coupon("LIVE01"));
+        codeFilter.rebuild();
+
+        when(delegate.findByCodeAndNotDeleted("LIVE01")).thenReturn(Optional.empty());
+
+        assertFalse(repository.findByCodeAndNotDeleted("LIVE01").isPresent());
+
+        assertEquals(1, codeFilter.falsePositives());
+        assertEquals(1.0, codeFilter.observedFalsePositiveRate(), 0.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamCodes(Coupon... coupons) {
+        doAnswer(invocation -> {
+            Consumer<CouponView> consumer = invocation.getArgument(0);
+            for (Coupon coupon : coupons) {
+                consumer.accept(CouponView.from(coupon));
+            }
+            return null;
+        }).when(delegate).streamAll(any(Consumer.class));
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.create(code, "Filtered", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true);
+    }
+}
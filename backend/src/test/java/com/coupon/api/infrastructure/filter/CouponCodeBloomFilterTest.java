@@ -0,0 +1,48 @@
+package com.coupon.api.infrastructure.filter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CouponCodeBloomFilterTest {
+
+    @Test
+    public void shouldNeverReportInsertedKeysAsAbsent() {
+        CouponCodeBloomFilter filter = new CouponCodeBloomFilter(10_000, 0.01);
+
+        for (long key = 0; key < 10_000; key++) {
+            filter.put(key * 7_919);
+        }
+
+        for (long key = 0; key < 10_000; key++) {
+            assertTrue(filter.mightContain(key * 7_919));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    public void shouldKeepFalsePositivesNearTheTargetRate() {
+        CouponCodeBloomFilter filter = new CouponCodeBloomFilter(10_000, 0.01);
+        for (long key = 0; key < 10_000; key++) {
+            filter.put(key);
+        }
+
+        int falsePositives = 0;
+        for (long key = 1_000_000; key < 1_100_000; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue("false positives: " + falsePositives, falsePositives < 2_000);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    public void shouldSizeBitsAndHashFunctionsForTheTarget() {
+        CouponCodeBloomFilter filter = new CouponCodeBloomFilter(1_000_000, 0.01);
+
+        assertEquals(9_585_088, filter.bitSize());
+        assertEquals(7, filter.hashFunctions());
+    }
+}
@@ -0,0 +1,78 @@
+package com.coupon.api.infrastructure.filter;
+
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.infrastructure.persistence.CouponJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "coupon.code-filter.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CouponCodeFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Autowired
+    private CouponCodeFilter couponCodeFilter;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAllInBatch();
+        couponCodeFilter.rebuild();
+    }
+
+    @Test
+    public void shouldAnswerUnknownCodesWithNotFound() throws Exception {
+        long negatives = couponCodeFilter.negatives();
+
+        mockMvc.perform(get("/coupon/code/NOPE99"))
+                .andExpect(status().isNotFound());
+
+        assertEquals(negatives + 1, couponCodeFilter.negatives());
+    }
+
+    @Test
+    public void shouldFindCodesCreatedAfterTheRebuild() throws Exception {
+        CouponRequestDTO requestDTO = CouponRequestDTO.builder()
+                .code("FLT001")
+                .description("Filtered coupon")
+                .discountValue(new BigDecimal("10.0"))
+                .expirationDate(LocalDateTime.now().plusDays(1))
+                .published(true)
+                .build();
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/coupon/code/FLT001"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/coupon/code/FLT001/redeem"))
+                .andExpect(status().isOk());
+    }
+}
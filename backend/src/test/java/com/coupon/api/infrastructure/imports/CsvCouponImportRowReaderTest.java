@@ -0,0 +1,57 @@
+package com.coupon.api.infrastructure.imports;
+
+import com.coupon.api.application.port.CouponImportRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+public class CsvCouponImportRowReaderTest {
+
+    @Test
+    public void shouldReadQuotedFieldsInHeaderOrder() throws IOException {
+        CsvCouponImportRowReader reader = new CsvCouponImportRowReader(new StringReader(
+            "published,expirationDate,discountValue,description,code\r\n" +
+            "true,2030-01-01T10:00:00.000Z,5.5,\"Half, \"\"price\"\"\nsecond line\",ABC123\r\n" +
+            "\n" +
+            ",2030-01-01T10:00:00,1.0,Plain,XYZ789"));
+
+        CouponImportRow first = reader.next();
+        assertEquals(1, first.getNumber());
+        assertEquals("ABC123", first.getRequest().getCode());
+        assertEquals("Half, \"price\"\nsecond line", first.getRequest().getDescription());
+        assertEquals(new BigDecimal("5.5"), first.getRequest().getDiscountValue());
+        assertEquals(LocalDateTime.of(2030, 1, 1, 10, 0), first.getRequest().getExpirationDate());
+        assertTrue(first.getRequest().getPublished());
+
+        CouponImportRow second = reader.next();
+        assertEquals(2, second.getNumber());
+        assertEquals("XYZ789", second.getRequest().getCode());
+        assertNull(second.getRequest().getPublished());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void shouldReportUnparseableValuesAsMalformedRows() throws IOException {
+        CsvCouponImportRowReader reader = new CsvCouponImportRowReader(new StringReader(
+            "code,description,discountValue,expirationDate\n" +
+            "ABC123,Bad value,five,2030-01-01T10:00:00\n" +
+            "ABC124,Bad date,5.0,tomorrow\n"));
+
+        CouponImportRow first = reader.next();
+        assertNull(first.getRequest());
+        assertEquals("Invalid discount value", first.getError());
+        assertEquals("Invalid expiration date", reader.next().getError());
+        assertNull(reader.next());
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectHeaderWithoutRequiredColumns() throws IOException {
+        new CsvCouponImportRowReader(new StringReader("code,description\nABC123,Missing\n"));
+    }
+}
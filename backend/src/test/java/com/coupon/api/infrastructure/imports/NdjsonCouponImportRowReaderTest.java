@@ -0,0 +1,54 @@
+package com.coupon.api.infrastructure.imports;
+
+import com.coupon.api.application.port.CouponImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+public class NdjsonCouponImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    public void shouldReadOneRowPerLineSkippingBlankLines() throws IOException {
+        NdjsonCouponImportRowReader reader = reader(
+            "{\"code\":\"ABC123\",\"description\":\"First\"}\r\n" +
+            "\n" +
+            "not json\n" +
+            "{\"code\":\"XYZ789\",\"description\":\"Last\"}");
+
+        assertEquals("ABC123", reader.next().getRequest().getCode());
+        CouponImportRow malformed = reader.next();
+        assertEquals(2, malformed.getNumber());
+        assertEquals("Malformed JSON row", malformed.getError());
+        assertEquals("XYZ789", reader.next().getRequest().getCode());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void shouldRejectLineLongerThanLimit() throws IOException {
+        StringBuilder line = new StringBuilder("{\"description\":\"");
+        while (line.length() <= NdjsonCouponImportRowReader.MAX_LINE_LENGTH) {
+            line.append('x');
+        }
+        NdjsonCouponImportRowReader reader = reader("{\"code\":\"ABC123\"}\n" + line);
+
+        assertEquals("ABC123", reader.next().getRequest().getCode());
+        try {
+            reader.next();
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage().contains("near row 2"));
+        }
+    }
+
+    private NdjsonCouponImportRowReader reader(String content) {
+        return new NdjsonCouponImportRowReader(new BufferedReader(new StringReader(content)), objectMapper.reader());
+    }
+}
@@ -0,0 +1,109 @@
+package com.coupon.api.infrastructure.metrics;
+
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.infrastructure.persistence.CouponJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CouponMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldTimeUseCasesAndRepositoryCalls() throws Exception {
+        long useCaseCalls = timerCount(CouponMetricsAspect.USE_CASE_TIMER, "CreateCouponUseCase", "execute", "none");
+        long repositoryCalls = timerCount(CouponMetricsAspect.REPOSITORY_TIMER, "CouponRepositoryAdapter", "save", "none");
+
+        CouponRequestDTO request = CouponRequestDTO.builder()
+                .code("MET001")
+                .description("Metrics")
+                .discountValue(new BigDecimal("5.0"))
+                .expirationDate(LocalDateTime.now().plusDays(5))
+                .build();
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        assertEquals(useCaseCalls + 1, timerCount(CouponMetricsAspect.USE_CASE_TIMER, "CreateCouponUseCase", "execute", "none"));
+        assertEquals(repositoryCalls + 1, timerCount(CouponMetricsAspect.REPOSITORY_TIMER, "CouponRepositoryAdapter", "save", "none"));
+    }
+
+    @Test
+    public void shouldCountHandledExceptionsAndTagFailedUseCases() throws Exception {
+        double notFound = errorCount("CouponNotFoundException", "404");
+        long failedCalls = timerCount(CouponMetricsAspect.USE_CASE_TIMER, "GetCouponByIdUseCase", "execute", "CouponNotFoundException");
+
+        mockMvc.perform(get("/coupon/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+
+        assertEquals(notFound + 1, errorCount("CouponNotFoundException", "404"), 0.0);
+        assertEquals(failedCalls + 1, timerCount(CouponMetricsAspect.USE_CASE_TIMER, "GetCouponByIdUseCase", "execute", "CouponNotFoundException"));
+    }
+
+    @Test
+    public void shouldExposePrometheusEndpoint() throws Exception {
+        mockMvc.perform(get("/coupon/{id}", UUID.randomUUID()));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("coupon_usecase_seconds")))
+                .andExpect(content().string(containsString("coupon_usecase_seconds_bucket")))
+                .andExpect(content().string(not(containsString("coupon_usecase_seconds{"))))
+                .andExpect(content().string(containsString("coupon_api_errors_total")));
+    }
+
+    private long timerCount(String name, String className, String method, String exception) {
+        Timer timer = meterRegistry.find(name)
+                .tags("class", className, "method", method, "exception", exception)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private double errorCount(String exception, String status) {
+        Counter counter = meterRegistry.find("coupon.api.errors")
+                .tags("exception", exception, "status", status)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.usecase.ExpireCouponsUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.dto.CouponExpirationRunDTO;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class CouponExpirationSweepTest {
+
+    @Autowired
+    private ExpireCouponsUseCase expireCouponsUseCase;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void shouldMoveOnlyExpiredActiveCouponsToInactive() {
+        List<Coupon> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add(expiredCoupon(String.format("EXP%03d", i)));
+        }
+        couponRepository.saveAll(expired);
+        Coupon valid = couponRepository.save(Coupon.create(
+            "VALID1", "Still valid", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true));
+        Coupon deleted = expiredCoupon("GONE01");
+        deleted.delete();
+        couponRepository.save(deleted);
+
+        CouponExpirationRunDTO run = expireCouponsUseCase.execute();
+
+        assertEquals(Long.valueOf(5), run.getExpired());
+        for (Coupon coupon : expired) {
+            assertEquals(CouponStatus.INACTIVE, couponRepository.findByIdIncludingDeleted(coupon.getId()).get().getStatus());
+        }
+        assertEquals(CouponStatus.ACTIVE, couponRepository.findByIdIncludingDeleted(valid.getId()).get().getStatus());
+        assertEquals(Long.valueOf(0), expireCouponsUseCase.execute().getExpired());
+    }
+
+    @Test
+    public void shouldLimitEachBatch() {
+        List<Coupon> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add(expiredCoupon(String.format("LIM%03d", i)));
+        }
+        couponRepository.saveAll(expired);
+
+        assertEquals(2, couponRepository.expireActive(LocalDateTime.now(), 2));
+        assertEquals(2, couponRepository.expireActive(LocalDateTime.now(), 2));
+        assertEquals(1, couponRepository.expireActive(LocalDateTime.now(), 2));
+    }
+
+    private static Coupon expiredCoupon(String code) {
+        Coupon coupon = Coupon.create(code, "Expired", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true);
+        ReflectionTestUtils.setField(coupon, "expirationDate", LocalDateTime.now().minusDays(1));
+        return coupon;
+    }
+}
@@ -0,0 +1,100 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.application.usecase.ExportCouponsUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.infrastructure.web.CouponExportFormat;
+import com.coupon.api.infrastructure.web.CouponExportWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class CouponExportMemoryTest {
+
+    private static final int ROWS = 50_000;
+    private static final int SAMPLE_EVERY = 10_000;
+    private static final long MAX_RETAINED_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private ExportCouponsUseCase exportCouponsUseCase;
+
+    @Autowired
+    private CouponExportWriter couponExportWriter;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Before
+    @After
+    public void clean() {
+        couponRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void shouldExportLargeDatasetWithBoundedHeap() throws Exception {
+        LocalDateTime expiration = LocalDateTime.now().plusDays(30);
+        List<Coupon> chunk = new ArrayList<>(1_000);
+        for (int i = 0; i < ROWS; i++) {
+            chunk.add(Coupon.create(String.format("E%05d", i), "Export, \"memory\" test", new BigDecimal("5.0"),
+                expiration, i % 2 == 0));
+            if (chunk.size() == 1_000) {
+                couponRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+
+        long baseline = usedHeapAfterGc();
+        AtomicLong rows = new AtomicLong();
+        AtomicLong peakRetained = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+
+        Consumer<Consumer<CouponView>> sampledSource = consumer -> exportCouponsUseCase.execute(view -> {
+            consumer.accept(view);
+            if (rows.incrementAndGet() % SAMPLE_EVERY == 0) {
+                peakRetained.accumulateAndGet(usedHeapAfterGc() - baseline, Math::max);
+            }
+        });
+
+        couponExportWriter.write(CouponExportFormat.NDJSON, new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes.addAndGet(len);
+            }
+        }, sampledSource);
+
+        assertEquals(ROWS, rows.get());
+        assertTrue(bytes.get() > ROWS * 100L);
+        assertTrue("Export retained " + peakRetained.get() + " bytes",
+            peakRetained.get() < MAX_RETAINED_BYTES);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
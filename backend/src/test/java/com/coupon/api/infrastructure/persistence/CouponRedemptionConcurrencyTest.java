@@ -0,0 +1,113 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.exception.CouponAlreadyRedeemedException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class CouponRedemptionConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RedeemCouponUseCase redeemCouponUseCase;
+
+    @Autowired
+    private CouponJpaRepository couponRepository;
+
+    @Before
+    public void setUp() {
+        couponRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldLetExactlyOneConcurrentRedeemerWin() throws Exception {
+        couponRepository.save(coupon("RACE01"));
+
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger losers = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    redeemCouponUseCase.execute("RACE01");
+                    winners.incrementAndGet();
+                } catch (CouponAlreadyRedeemedException ex) {
+                    losers.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, winners.get());
+        assertEquals(THREADS - 1, losers.get());
+        assertTrue(couponRepository.findByCodeAndNotDeleted("RACE01").get().getRedeemed());
+    }
+
+    @Test
+    public void shouldRedeemEveryCouponUnderConcurrentLoad() throws Exception {
+        int coupons = 2_000;
+        List<Coupon> batch = new ArrayList<>(coupons);
+        for (int i = 0; i < coupons; i++) {
+            batch.add(coupon(String.format("R%05d", i)));
+        }
+        couponRepository.saveAll(batch);
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger redeemed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                for (int index = next.getAndIncrement(); index < coupons; index = next.getAndIncrement()) {
+                    redeemCouponUseCase.execute(String.format("R%05d", index));
+                    redeemed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(coupons, redeemed.get());
+    }
+
+    private Coupon coupon(String code) {
+        return Coupon.create(code, "Concurrency test", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true);
+    }
+}
@@ -0,0 +1,32 @@
+package com.coupon.api.infrastructure.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+
+public class CouponRepositoryAdapterTest {
+
+    @Test
+    public void shouldRecognizeActiveCodeConstraintOnPostgresAndH2() {
+        assertTrue(CouponRepositoryAdapter.isActiveCodeViolation(violation("uk_coupons_active_code")));
+        assertTrue(CouponRepositoryAdapter.isActiveCodeViolation(violation("PUBLIC.UK_COUPONS_ACTIVE_CODE_INDEX_6")));
+    }
+
+    @Test
+    public void shouldIgnoreOtherConstraintsMentioningTheColumn() {
+        assertFalse(CouponRepositoryAdapter.isActiveCodeViolation(violation("ck_coupons_active_code_key")));
+        assertFalse(CouponRepositoryAdapter.isActiveCodeViolation(violation(null)));
+        assertFalse(CouponRepositoryAdapter.isActiveCodeViolation(
+            new DataIntegrityViolationException("duplicate key in active_code_key")));
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException(
+            "could not execute statement", new SQLException("duplicate key", "23505"), constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
@@ -0,0 +1,88 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.domain.Coupon;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the second-level and query caches enabled by the {@code high-throughput} profile
+ * answer repeated lookups, and that bulk updates such as redemption invalidate them.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"test", "high-throughput"})
+public class HighThroughputProfileIntegrationTest {
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        jpaRepository.deleteAll();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupsFromQueryCache() {
+        Coupon saved = couponRepository.save(coupon("HT0001"));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(couponRepository.findByCodeAndNotDeleted("HT0001").isPresent());
+            assertTrue(couponRepository.findByIdAndNotDeleted(saved.getId()).isPresent());
+        }
+
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    public void shouldServeRepeatedProjectionsFromQueryCache() {
+        Coupon saved = couponRepository.save(coupon("HT0003"));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("HT0003", couponRepository.findViewById(saved.getId()).get().getCode());
+            assertEquals(saved.getId(), couponRepository.findViewByCode("HT0003").get().getId());
+        }
+
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+    }
+
+    @Test
+    public void shouldNotServeStaleCouponAfterRedemption() {
+        Coupon saved = couponRepository.save(coupon("HT0002"));
+        assertFalse(couponRepository.findByCodeAndNotDeleted("HT0002").get().getRedeemed());
+
+        assertTrue(couponRepository.redeem(saved.getId(), LocalDateTime.now()));
+
+        assertTrue(couponRepository.findByCodeAndNotDeleted("HT0002").get().getRedeemed());
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.create(code, "High-throughput test", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true);
+    }
+}
@@ -0,0 +1,241 @@
+package com.coupon.api.infrastructure.persistence;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponDeletionCounts;
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import com.coupon.api.exception.DuplicateCouponCodeException;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the persistence adapter against a real PostgreSQL with the schema created by the Flyway
+ * migrations, so the partial indexes and native queries are exercised the way production uses them.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "coupon.expiration.enabled=false")
+@ActiveProfiles("postgres")
+@ContextConfiguration(initializers = PostgresCouponRepositoryIntegrationTest.EmbeddedPostgresInitializer.class)
+public class PostgresCouponRepositoryIntegrationTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private CouponRepositoryAdapter couponRepository;
+
+    @Autowired
+    private CouponJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() {
+        jpaRepository.deleteAllInBatch();
+    }
+
+    @AfterClass
+    public static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+            postgres = null;
+        }
+    }
+
+    @Test
+    public void shouldSaveAndFindCouponByIdAndCode() {
+        Coupon saved = couponRepository.save(coupon("PG0001"));
+
+        assertEquals("PG0001", couponRepository.findByIdAndNotDeleted(saved.getId()).get().getCode());
+        assertEquals(saved.getId(), couponRepository.findByCodeAndNotDeleted("PG0001").get().getId());
+    }
+
+    @Test(expected = DuplicateCouponCodeException.class)
+    public void shouldRejectDuplicateCodeThroughPartialUniqueIndex() {
+        couponRepository.save(coupon("PG0002"));
+        couponRepository.save(coupon("PG0002"));
+    }
+
+    @Test
+    public void shouldAllowReusingCodeOfDeletedCoupon() {
+        Coupon deleted = coupon("PG0003");
+        deleted.delete();
+        couponRepository.save(deleted);
+
+        Coupon reused = couponRepository.save(coupon("PG0003"));
+
+        assertEquals(reused.getId(), couponRepository.findByCodeAndNotDeleted("PG0003").get().getId());
+        assertTrue(couponRepository.existsIncludingDeleted(deleted.getId()));
+        assertEquals(CouponStatus.DELETED, couponRepository.findByIdIncludingDeleted(deleted.getId()).get().getStatus());
+    }
+
+    @Test
+    public void shouldRedeemOnlyOnce() {
+        Coupon saved = couponRepository.save(coupon("PG0004"));
+
+        assertTrue(couponRepository.redeem(saved.getId(), LocalDateTime.now()));
+        assertFalse(couponRepository.redeem(saved.getId(), LocalDateTime.now()));
+    }
+
+    @Test
+    public void shouldSoftDeleteWithConditionalUpdate() {
+        Coupon saved = couponRepository.save(coupon("PG0006"));
+
+        assertTrue(couponRepository.delete(saved.getId(), LocalDateTime.now()));
+        assertFalse(couponRepository.delete(saved.getId(), LocalDateTime.now()));
+        assertTrue(couponRepository.existsIncludingDeleted(saved.getId()));
+        assertFalse(couponRepository.existsIncludingDeleted(UUID.randomUUID()));
+        assertEquals(CouponStatus.DELETED, statusOf(saved.getId()));
+        couponRepository.save(coupon("PG0006"));
+    }
+
+    @Test
+    public void shouldProjectViewsOfCouponsNotDeleted() {
+        Coupon saved = couponRepository.save(coupon("PG0007"));
+        Coupon deleted = coupon("PG0008");
+        deleted.delete();
+        couponRepository.save(deleted);
+
+        CouponView view = couponRepository.findViewById(saved.getId()).get();
+
+        assertEquals("PG0007", view.getCode());
+        assertEquals(CouponStatus.ACTIVE, view.getStatus());
+        assertNotNull(view.getUpdatedAt());
+        assertEquals(saved.getId(), couponRepository.findViewByCode("PG0007").get().getId());
+        assertFalse(couponRepository.findViewById(deleted.getId()).isPresent());
+        assertFalse(couponRepository.findViewByCode("PG0008").isPresent());
+    }
+
+    @Test
+    public void shouldPageByCreationOrder() {
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            coupons.add(coupon(String.format("PGP%03d", i)));
+        }
+        couponRepository.saveAll(coupons);
+        CouponFilter filter = CouponFilter.builder().status(CouponStatus.ACTIVE).build();
+
+        List<Coupon> first = couponRepository.findPage(filter, null, 3);
+        Coupon last = first.get(first.size() - 1);
+        List<Coupon> second = couponRepository.findPage(filter, new CouponCursor(last.getCreatedAt(), last.getId()), 3);
+
+        assertEquals(3, first.size());
+        assertEquals(2, second.size());
+    }
+
+    @Test
+    public void shouldExpireInBoundedBatches() {
+        List<Coupon> expired = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Coupon coupon = coupon(String.format("PGE%03d", i));
+            ReflectionTestUtils.setField(coupon, "expirationDate", LocalDateTime.now().minusDays(1));
+            expired.add(coupon);
+        }
+        couponRepository.saveAll(expired);
+
+        assertEquals(2, couponRepository.expireActive(LocalDateTime.now(), 2));
+        assertEquals(1, couponRepository.expireActive(LocalDateTime.now(), 2));
+        assertEquals(CouponStatus.INACTIVE,
+            couponRepository.findByIdIncludingDeleted(expired.get(0).getId()).get().getStatus());
+    }
+
+    @Test
+    public void shouldStreamNativeUuidIds() {
+        Coupon saved = couponRepository.save(coupon("PG0005"));
+        List<CouponView> views = new ArrayList<>();
+
+        couponRepository.streamAll(views::add);
+
+        assertEquals(1, views.size());
+        assertEquals(saved.getId(), views.get(0).getId());
+    }
+
+    @Test
+    public void shouldBulkDeleteByIdsAndReportCounts() {
+        Coupon active = couponRepository.save(coupon("PGD001"));
+        Coupon deleted = coupon("PGD002");
+        deleted.delete();
+        couponRepository.save(deleted);
+
+        CouponDeletionCounts counts = couponRepository.deleteByIds(
+            Arrays.asList(active.getId(), deleted.getId(), UUID.randomUUID()), LocalDateTime.now());
+
+        assertEquals(new CouponDeletionCounts(1, 1, 1), counts);
+        assertFalse(couponRepository.findByCodeAndNotDeleted("PGD001").isPresent());
+        couponRepository.save(coupon("PGD001"));
+    }
+
+    @Test
+    public void shouldBulkDeleteMatchingPrefixInChunks() {
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            coupons.add(coupon(String.format("PGC%03d", i)));
+        }
+        coupons.add(coupon("PGX000"));
+        couponRepository.saveAll(coupons);
+        CouponDeletionFilter filter = CouponDeletionFilter.builder().codePrefix("PGC").published(true).build();
+
+        assertEquals(3, couponRepository.deleteMatching(filter, LocalDateTime.now(), 3));
+        assertEquals(2, couponRepository.deleteMatching(filter, LocalDateTime.now(), 3));
+        assertEquals(0, couponRepository.deleteMatching(filter, LocalDateTime.now(), 3));
+        assertTrue(couponRepository.findByCodeAndNotDeleted("PGX000").isPresent());
+    }
+
+    /**
+     * Reads the stored status with plain JDBC, bypassing the entity mapping and its {@code @Where}.
+     */
+    private CouponStatus statusOf(UUID id) {
+        String status = jdbcTemplate.queryForObject("SELECT status FROM coupons WHERE id = ?", String.class, id);
+        return CouponStatus.valueOf(status);
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.create(code, "Postgres test", new BigDecimal("5.0"), LocalDateTime.now().plusDays(1), true);
+    }
+
+    static class EmbeddedPostgresInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext context) {
+            try {
+                if (postgres == null) {
+                    postgres = EmbeddedPostgres.start();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            TestPropertyValues.of(
+                "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "spring.datasource.username=postgres",
+                "spring.datasource.password=postgres"
+            ).applyTo(context);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.coupon.api.infrastructure.persistence;
+
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TimeOrderedUuidTest {
+
+    @Test
+    public void shouldGenerateVersion7Uuid() {
+        UUID uuid = TimeOrderedUuid.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    public void shouldEmbedCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuid.next();
+        long after = System.currentTimeMillis();
+
+        assertTrue(TimeOrderedUuid.timestamp(uuid) >= before);
+        assertTrue(TimeOrderedUuid.timestamp(uuid) <= after + 1000);
+    }
+
+    @Test
+    public void shouldGenerateStrictlyIncreasingIds() {
+        UUID previous = TimeOrderedUuid.next();
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = TimeOrderedUuid.next();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    public void shouldGenerateUniqueIdsAcrossThreads() throws InterruptedException {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(TimeOrderedUuid.next());
+                }
+            });
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(80_000, ids.size());
+    }
+}
@@ -0,0 +1,111 @@
+package com.coupon.api.infrastructure.reactive;
+
+import com.coupon.api.application.usecase.CreateCouponUseCase;
+import com.coupon.api.application.usecase.DeleteCouponUseCase;
+import com.coupon.api.application.usecase.GetCouponByCodeUseCase;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.application.usecase.RedeemCouponUseCase;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.exception.CouponNotFoundException;
+import com.coupon.api.exception.InvalidCouponException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveCouponUseCasesTest {
+
+    @Mock
+    private CreateCouponUseCase createCouponUseCase;
+
+    @Mock
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+
+    @Mock
+    private GetCouponByCodeUseCase getCouponByCodeUseCase;
+
+    @Mock
+    private RedeemCouponUseCase redeemCouponUseCase;
+
+    @Mock
+    private DeleteCouponUseCase deleteCouponUseCase;
+
+    private ReactiveCouponUseCases useCases;
+
+    @Before
+    public void setUp() {
+        useCases = new ReactiveCouponUseCases(createCouponUseCase, getCouponByIdUseCase, getCouponByCodeUseCase,
+            redeemCouponUseCase, deleteCouponUseCase, Schedulers.immediate(), 4, 3);
+    }
+
+    @Test
+    public void shouldNotRunUseCaseUntilSubscribed() {
+        UUID id = UUID.randomUUID();
+        when(getCouponByIdUseCase.execute(id)).thenReturn(response("ABC123"));
+
+        Mono<CouponResponseDTO> coupon = useCases.findById(id);
+        verifyZeroInteractions(getCouponByIdUseCase);
+
+        assertEquals("ABC123", coupon.block().getCode());
+    }
+
+    @Test
+    public void shouldPropagateUseCaseErrors() {
+        when(redeemCouponUseCase.execute("ABC123")).thenThrow(new CouponNotFoundException("Coupon not found"));
+
+        try {
+            useCases.redeem("ABC123").block();
+            fail("Expected CouponNotFoundException");
+        } catch (CouponNotFoundException expected) {
+            assertEquals("Coupon not found", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldDeleteOnSubscribe() {
+        UUID id = UUID.randomUUID();
+
+        useCases.delete(id).block();
+
+        verify(deleteCouponUseCase).execute(id);
+    }
+
+    @Test
+    public void shouldCheckCodesInRequestOrderSkippingUnknownAndInvalid() {
+        when(getCouponByCodeUseCase.execute("AAA111")).thenReturn(response("AAA111"));
+        when(getCouponByCodeUseCase.execute("BBB222")).thenThrow(new CouponNotFoundException("Coupon not found"));
+        when(getCouponByCodeUseCase.execute("??")).thenThrow(new InvalidCouponException("Invalid code"));
+
+        List<String> codes = useCases.check(Arrays.asList("AAA111", "BBB222", "??")).collectList().block()
+            .stream().map(CouponResponseDTO::getCode).collect(Collectors.toList());
+
+        assertEquals(Collections.singletonList("AAA111"), codes);
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectEmptyCheck() {
+        useCases.check(Collections.emptyList()).blockLast();
+    }
+
+    @Test(expected = InvalidCouponException.class)
+    public void shouldRejectOversizedCheck() {
+        useCases.check(Arrays.asList("AAA111", "BBB222", "CCC333", "DDD444")).blockLast();
+    }
+
+    private static CouponResponseDTO response(String code) {
+        return CouponResponseDTO.builder().code(code).build();
+    }
+}
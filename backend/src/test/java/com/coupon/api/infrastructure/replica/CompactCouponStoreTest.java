@@ -0,0 +1,171 @@
+package com.coupon.api.infrastructure.replica;
+
+import com.coupon.api.application.port.CouponDeletionFilter;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class CompactCouponStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 10, 12, 30, 15, 123_456_000);
+
+    private final CompactCouponStore store = new CompactCouponStore();
+
+    @Test
+    public void shouldFindStoredCouponByIdAndCode() {
+        Coupon coupon = coupon(UUID.randomUUID(), "ABC123", CouponStatus.ACTIVE);
+
+        store.put(coupon);
+
+        Coupon byId = store.findById(coupon.getId()).get();
+        Coupon byCode = store.findByCode("ABC123").get();
+        assertEquals(coupon.getId(), byCode.getId());
+        assertEquals("ABC123", byId.getCode());
+        assertEquals("Replica coupon", byId.getDescription());
+        assertEquals(0, new BigDecimal("12.5").compareTo(byId.getDiscountValue()));
+        assertEquals(NOW.plusDays(1), byId.getExpirationDate());
+        assertEquals(NOW, byId.getCreatedAt());
+        assertEquals(CouponStatus.ACTIVE, byId.getStatus());
+        assertTrue(byId.getPublished());
+        assertFalse(byId.getRedeemed());
+    }
+
+    @Test
+    public void shouldMissUnknownIdsAndCodes() {
+        store.put(coupon(UUID.randomUUID(), "ABC123", CouponStatus.ACTIVE));
+
+        assertFalse(store.findById(UUID.randomUUID()).isPresent());
+        assertFalse(store.findByCode("ZZZ999").isPresent());
+        assertFalse(store.findByCode("TOO-LONG").isPresent());
+    }
+
+    @Test
+    public void shouldReplaceCouponWithSameId() {
+        UUID id = UUID.randomUUID();
+        store.put(coupon(id, "ABC123", CouponStatus.ACTIVE));
+        store.put(coupon(id, "ABC123", CouponStatus.INACTIVE));
+
+        assertEquals(1, store.size());
+        assertEquals(CouponStatus.INACTIVE, store.findById(id).get().getStatus());
+    }
+
+    @Test
+    public void shouldDropDeletedCouponsAndKeepOthersReachable() {
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Coupon coupon = coupon(UUID.randomUUID(), String.format("DEL%03d", i), CouponStatus.ACTIVE);
+            coupons.add(coupon);
+            store.put(coupon);
+        }
+
+        store.put(coupon(coupons.get(3).getId(), "DEL003", CouponStatus.DELETED));
+        assertTrue(store.remove(coupons.get(0).getId()));
+
+        assertEquals(8, store.size());
+        assertFalse(store.findById(coupons.get(3).getId()).isPresent());
+        assertFalse(store.findByCode("DEL000").isPresent());
+        for (int i = 4; i < 10; i++) {
+            assertEquals(coupons.get(i).getId(), store.findByCode(String.format("DEL%03d", i)).get().getId());
+        }
+    }
+
+    @Test
+    public void shouldReplaceStaleCouponHoldingTheSameCode() {
+        Coupon stale = coupon(UUID.randomUUID(), "REUSE1", CouponStatus.ACTIVE);
+        Coupon current = coupon(UUID.randomUUID(), "REUSE1", CouponStatus.ACTIVE);
+
+        store.put(stale);
+        store.put(current);
+
+        assertEquals(1, store.size());
+        assertFalse(store.findById(stale.getId()).isPresent());
+        assertEquals(current.getId(), store.findByCode("REUSE1").get().getId());
+    }
+
+    @Test
+    public void shouldGrowPastInitialCapacity() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Coupon coupon = coupon(UUID.randomUUID(), String.format("G%05d", i), CouponStatus.ACTIVE);
+            ids.add(coupon.getId());
+            store.put(coupon);
+        }
+
+        assertEquals(5_000, store.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(ids.get(i), store.findByCode(String.format("G%05d", i)).get().getId());
+            assertTrue(store.findById(ids.get(i)).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldMarkRedeemed() {
+        Coupon coupon = coupon(UUID.randomUUID(), "RED001", CouponStatus.ACTIVE);
+        store.put(coupon);
+
+        assertTrue(store.markRedeemed(coupon.getId(), NOW.plusHours(1)));
+
+        Coupon redeemed = store.findById(coupon.getId()).get();
+        assertTrue(redeemed.getRedeemed());
+        assertEquals(NOW.plusHours(1), redeemed.getUpdatedAt());
+        assertFalse(store.markRedeemed(UUID.randomUUID(), NOW));
+    }
+
+    @Test
+    public void shouldExpireOnlyActiveCouponsPastTheirDate() {
+        Coupon active = coupon(UUID.randomUUID(), "EXP001", CouponStatus.ACTIVE);
+        Coupon inactive = coupon(UUID.randomUUID(), "EXP002", CouponStatus.INACTIVE);
+        store.put(active);
+        store.put(inactive);
+
+        assertEquals(0, store.expireActive(NOW));
+        assertEquals(1, store.expireActive(NOW.plusDays(2)));
+
+        assertEquals(CouponStatus.INACTIVE, store.findById(active.getId()).get().getStatus());
+    }
+
+    @Test
+    public void shouldRemoveCouponsMatchingPrefixAndExpiration() {
+        List<Coupon> campaign = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Coupon coupon = coupon(UUID.randomUUID(), String.format("BF%04d", i), CouponStatus.ACTIVE);
+            campaign.add(coupon);
+            store.put(coupon);
+        }
+        Coupon other = coupon(UUID.randomUUID(), "BG0001", CouponStatus.ACTIVE);
+        store.put(other);
+
+        assertEquals(0, store.removeMatching(CouponDeletionFilter.builder()
+            .codePrefix("BF").expiresTo(NOW).build()));
+        assertEquals(50, store.removeMatching(CouponDeletionFilter.builder()
+            .codePrefix("BF").expiresFrom(NOW).published(true).build()));
+
+        assertEquals(1, store.size());
+        assertFalse(store.findById(campaign.get(7).getId()).isPresent());
+        assertFalse(store.findByCode("BF0049").isPresent());
+        assertEquals(other.getId(), store.findByCode("BG0001").get().getId());
+    }
+
+    @Test
+    public void shouldPackCodesIntoSixBytes() {
+        long packed = CompactCouponStore.packCode("Ab9zZ0");
+
+        assertEquals(0, packed >>> 48);
+        assertEquals("Ab9zZ0", CompactCouponStore.unpackCode(packed));
+        assertEquals(-1, CompactCouponStore.packCode("ABC12"));
+        assertEquals(-1, CompactCouponStore.packCode("ABC12\u00e9"));
+    }
+
+    private static Coupon coupon(UUID id, String code, CouponStatus status) {
+        return Coupon.restore(id, code, "Replica coupon", new BigDecimal("12.5"), NOW.plusDays(1), status,
+            true, false, NOW, NOW);
+    }
+}
@@ -0,0 +1,159 @@
+package com.coupon.api.infrastructure.replica;
+
+import com.coupon.api.application.port.CouponCursor;
+import com.coupon.api.application.port.CouponFilter;
+import com.coupon.api.application.port.CouponRepository;
+import com.coupon.api.domain.Coupon;
+import com.coupon.api.domain.CouponStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReplicaCouponRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private CouponRepository delegate;
+
+    private ReplicaCouponRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = new ReplicaCouponRepository(delegate, 2);
+    }
+
+    @Test
+    public void shouldLoadSnapshotPageByPage() {
+        Coupon first = coupon("PAGE01", NOW);
+        Coupon second = coupon("PAGE02", NOW.plusSeconds(1));
+        Coupon third = coupon("PAGE03", NOW.plusSeconds(2));
+
+        when(delegate.findPage(any(CouponFilter.class), isNull(), eq(2))).thenReturn(Arrays.asList(first, second));
+        when(delegate.findPage(any(CouponFilter.class), eq(new CouponCursor(second.getCreatedAt(), second.getId())), eq(2)))
+            .thenReturn(Collections.singletonList(third));
+
+        assertEquals(3, repository.refresh());
+
+        assertEquals(third.getId(), repository.findByCodeAndNotDeleted("PAGE03").get().getId());
+        assertEquals("PAGE01", repository.findByIdAndNotDeleted(first.getId()).get().getCode());
+        verify(delegate, never()).findByCodeAndNotDeleted(any());
+        verify(delegate, never()).findByIdAndNotDeleted(any());
+    }
+
+    @Test
+    public void shouldFallBackToDelegateOnMissAndKeepTheResult() {
+        Coupon coupon = coupon("MISS01", NOW);
+
+        when(delegate.findByCodeAndNotDeleted("MISS01")).thenReturn(Optional.of(coupon));
+
+        assertTrue(repository.findByCodeAndNotDeleted("MISS01").isPresent());
+        assertTrue(repository.findByCodeAndNotDeleted("MISS01").isPresent());
+
+        verify(delegate, times(1)).findByCodeAndNotDeleted("MISS01");
+    }
+
+    @Test
+    public void shouldApplyWritesToTheStore() {
+        Coupon coupon = coupon("SAVE01", NOW);
+
+        when(delegate.save(coupon)).thenReturn(coupon);
+        when(delegate.redeem(coupon.getId(), NOW)).thenReturn(true);
+
+        repository.save(coupon);
+        assertTrue(repository.redeem(coupon.getId(), NOW));
+
+        assertTrue(repository.findByIdAndNotDeleted(coupon.getId()).get().getRedeemed());
+        verify(delegate, never()).findByIdAndNotDeleted(any());
+    }
+
+    @Test
+    public void shouldRemoveDeletedCoupons() {
+        Coupon coupon = coupon("GONE01", NOW);
+        Coupon deleted = Coupon.restore(coupon.getId(), "GONE01", "Deleted", new BigDecimal("5.00"),
+            NOW.plusDays(1), CouponStatus.DELETED, true, false, NOW, NOW);
+
+        when(delegate.save(coupon)).thenReturn(coupon);
+        when(delegate.save(deleted)).thenReturn(deleted);
+        when(delegate.findByCodeAndNotDeleted("GONE01")).thenReturn(Optional.empty());
+
+        repository.save(coupon);
+        repository.save(deleted);
+
+        assertFalse(repository.findByCodeAndNotDeleted("GONE01").isPresent());
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    public void shouldReloadCouponWhenRedeemLosesTheRace() {
+        Coupon coupon = coupon("RACE01", NOW);
+        Coupon redeemedElsewhere = Coupon.restore(coupon.getId(), "RACE01", "Replica", new BigDecimal("5.00"),
+            NOW.plusDays(1), CouponStatus.ACTIVE, true, true, NOW, NOW);
+
+        when(delegate.save(coupon)).thenReturn(coupon);
+        when(delegate.redeem(coupon.getId(), NOW)).thenReturn(false);
+        when(delegate.findByIdIncludingDeleted(coupon.getId())).thenReturn(Optional.of(redeemedElsewhere));
+
+        repository.save(coupon);
+
+        assertFalse(repository.redeem(coupon.getId(), NOW));
+        assertTrue(repository.findByCodeAndNotDeleted("RACE01").get().getRedeemed());
+    }
+
+    @Test
+    public void shouldNotStoreCouponDeletedWhileItLoads() {
+        Coupon coupon = coupon("GONE02", NOW);
+
+        when(delegate.delete(coupon.getId(), NOW)).thenReturn(true);
+        when(delegate.findByCodeAndNotDeleted("GONE02")).thenAnswer(invocation -> {
+            repository.delete(coupon.getId(), NOW);
+            return Optional.of(coupon);
+        }).thenReturn(Optional.empty());
+
+        assertTrue(repository.findByCodeAndNotDeleted("GONE02").isPresent());
+
+        assertEquals(0, repository.size());
+        assertFalse(repository.findByCodeAndNotDeleted("GONE02").isPresent());
+    }
+
+    @Test
+    public void shouldKeepWritesMadeWhileASnapshotLoads() {
+        Coupon stale = coupon("LOAD01", NOW);
+        Coupon created = coupon("LOAD02", NOW.plusSeconds(1));
+
+        when(delegate.save(created)).thenReturn(created);
+        when(delegate.delete(stale.getId(), NOW)).thenReturn(true);
+        when(delegate.findPage(any(CouponFilter.class), isNull(), eq(2))).thenAnswer(invocation -> {
+            repository.save(created);
+            repository.delete(stale.getId(), NOW);
+            return Collections.singletonList(stale);
+        });
+
+        assertEquals(1, repository.refresh());
+
+        assertTrue(repository.findByCodeAndNotDeleted("LOAD02").isPresent());
+        assertFalse(repository.findByIdAndNotDeleted(stale.getId()).isPresent());
+        assertEquals(1, repository.size());
+    }
+
+    private static Coupon coupon(String code, LocalDateTime createdAt) {
+        return Coupon.restore(UUID.randomUUID(), code, "Replica", new BigDecimal("5.00"), createdAt.plusDays(1),
+            CouponStatus.ACTIVE, true, false, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,69 @@
+package com.coupon.api.infrastructure.web;
+
+import com.coupon.api.application.port.CouponView;
+import com.coupon.api.application.usecase.GetCouponByIdUseCase;
+import com.coupon.api.domain.CouponStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class CouponJsonResponseCacheTest {
+
+    private final GetCouponByIdUseCase getCouponByIdUseCase = new GetCouponByIdUseCase(null);
+
+    private ObjectMapper objectMapper;
+    private CouponJsonResponseCache cache;
+
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cache = new CouponJsonResponseCache(objectMapper, true, 1024 * 1024);
+    }
+
+    @Test
+    public void shouldEncodeSameJsonAsDtoPath() throws Exception {
+        CouponView coupon = coupon(UUID.randomUUID(), LocalDateTime.now());
+
+        byte[] json = cache.get(coupon, getCouponByIdUseCase::toResponse);
+
+        assertEquals(objectMapper.writeValueAsString(getCouponByIdUseCase.toResponse(coupon)),
+            new String(json, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReuseBytesForSameCouponVersion() {
+        CouponView coupon = coupon(UUID.randomUUID(), LocalDateTime.now());
+
+        byte[] first = cache.get(coupon, getCouponByIdUseCase::toResponse);
+        byte[] second = cache.get(coupon, getCouponByIdUseCase::toResponse);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void shouldReencodeWhenCouponVersionChanges() {
+        UUID couponId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        byte[] first = cache.get(coupon(couponId, updatedAt), getCouponByIdUseCase::toResponse);
+        byte[] second = cache.get(coupon(couponId, updatedAt.plusSeconds(1)), getCouponByIdUseCase::toResponse);
+
+        assertNotSame(first, second);
+    }
+
+    private CouponView coupon(UUID id, LocalDateTime updatedAt) {
+        return new CouponView(id, "ABC123", "Test", new BigDecimal("1.0"), updatedAt.plusDays(1),
+            CouponStatus.ACTIVE, false, false, updatedAt, updatedAt);
+    }
+}